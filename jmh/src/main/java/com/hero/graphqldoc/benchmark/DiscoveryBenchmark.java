@@ -0,0 +1,103 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.benchmark;
+
+import com.hero.graphqldoc.discovery.BeanResolverDiscovery;
+import com.hero.graphqldoc.discovery.ClasspathResolverDiscovery;
+import com.hero.graphqldoc.discovery.ResolverDiscovery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolver discovery from registered beans, one classpath scan for all resolver annotations and one scan per
+ * annotation. The {@code com} package scans every library under it on the classpath of the benchmark, the generated
+ * package only scans the generated classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscoveryBenchmark {
+
+    private static final int DEPTH = 8;
+
+    @Param({"100", "1000"})
+    public int types;
+
+    @Param({"com", SyntheticSchema.PACKAGE})
+    public String packageName;
+
+    private ResourceLoader resourceLoader;
+    private DefaultListableBeanFactory beanFactory;
+
+    @Setup
+    public void setUp() throws Exception {
+        SyntheticSchema schema = SyntheticSchema.generate(types, DEPTH);
+        resourceLoader = new DefaultResourceLoader(schema.classLoader());
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setBeanClassLoader(schema.classLoader());
+        beanFactory.registerBeanDefinition("syntheticResolver", new RootBeanDefinition(schema.resolver()));
+        for (Class<?> type : schema.types()) {
+            beanFactory.registerBeanDefinition(type.getSimpleName(), new RootBeanDefinition(type));
+        }
+    }
+
+    @Benchmark
+    public Map<Class<? extends Annotation>, Set<Class<?>>> beans() {
+        return new BeanResolverDiscovery(beanFactory, packageName, new ClasspathResolverDiscovery(resourceLoader, packageName)).discover();
+    }
+
+    @Benchmark
+    public Map<Class<? extends Annotation>, Set<Class<?>>> singleScan() {
+        return new ClasspathResolverDiscovery(resourceLoader, packageName).discover();
+    }
+
+    /**
+     * Scans the classpath once for each resolver annotation, like discovery before {@link ClasspathResolverDiscovery}
+     */
+    @Benchmark
+    public Map<Class<? extends Annotation>, Set<Class<?>>> scanPerAnnotation() throws ClassNotFoundException {
+        Map<Class<? extends Annotation>, Set<Class<?>>> resolvers = new HashMap<>();
+        for (Class<? extends Annotation> annotation : ResolverDiscovery.RESOLVER_ANNOTATIONS) {
+            var scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.setResourceLoader(resourceLoader);
+            scanner.addIncludeFilter(new AnnotationTypeFilter(annotation));
+            for (BeanDefinition bean : scanner.findCandidateComponents(packageName)) {
+                resolvers.computeIfAbsent(annotation, key -> new HashSet<>())
+                        .add(ClassUtils.forName(bean.getBeanClassName(), resourceLoader.getClassLoader()));
+            }
+        }
+        return resolvers;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.benchmark;
+
+import com.google.gson.stream.JsonWriter;
+import com.hero.graphqldoc.builder.DocModelBuilder;
+import com.hero.graphqldoc.builder.TypeGraph;
+import com.hero.graphqldoc.enums.GraphType;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.RenderedPage;
+import com.hero.graphqldoc.parser.QueryParser;
+import com.hero.graphqldoc.parser.SchemaFileParser;
+import com.hero.graphqldoc.parser.SchemaIndex;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import com.hero.graphqldoc.service.DocAssets;
+import com.hero.graphqldoc.service.DocPageRenderer;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.Resource;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each stage of the documentation pipeline separately and the whole model build
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocPipelineBenchmark {
+
+    private static final int DEPTH = 8;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int types;
+
+    private SyntheticSchema schema;
+    private Resource[] resources;
+    private TypeDefinitionRegistry typeRegistry;
+    private SchemaIndex schemaIndex;
+    private GraphQLDocProperties properties;
+    private TypeGraph typeGraph;
+    private GraphQLDocModel model;
+    private DocPageRenderer pageRenderer;
+
+    @Setup
+    public void setUp() throws Exception {
+        schema = SyntheticSchema.generate(types, DEPTH);
+        resources = schema.resources();
+        typeRegistry = SchemaFileParser.parse(resources);
+        schemaIndex = QueryParser.index(typeRegistry);
+        properties = new GraphQLDocProperties();
+        typeGraph = newTypeGraph();
+        for (Class<?> root : schema.roots()) {
+            typeGraph.visit(root, root.getSimpleName());
+        }
+        model = build();
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("pages/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode("HTML");
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateEngine.addTemplateResolver(templateResolver);
+        pageRenderer = new DocPageRenderer(templateEngine, properties, new DocAssets("", properties.getEndpoint(), null));
+    }
+
+    private TypeGraph newTypeGraph() {
+        return new TypeGraph(schemaIndex, properties.getRecursionDepth(), new HashMap<>(), new HashMap<>(), new TreeSet<>());
+    }
+
+    /**
+     * Parses and merges schema files
+     */
+    @Benchmark
+    public TypeDefinitionRegistry parseSchema() {
+        return SchemaFileParser.parse(resources);
+    }
+
+    /**
+     * Indexes the parsed schema and reads query definitions and fields of every type from the index
+     */
+    @Benchmark
+    public void readSchema(Blackhole blackhole) {
+        SchemaIndex index = QueryParser.index(typeRegistry);
+        blackhole.consume(index.getOperations(GraphType.QUERY));
+        for (Class<?> type : schema.types()) {
+            blackhole.consume(index.getFields(type.getSimpleName()));
+        }
+    }
+
+    /**
+     * Creates class definitions and field selections of all types reachable from the queries
+     */
+    @Benchmark
+    public void createClassDefinitions(Blackhole blackhole) {
+        TypeGraph graph = newTypeGraph();
+        for (Class<?> root : schema.roots()) {
+            graph.visit(root, root.getSimpleName());
+            blackhole.consume(graph.response(root));
+        }
+    }
+
+    /**
+     * Writes example response JSON of every query
+     */
+    @Benchmark
+    public void writeExamples(Blackhole blackhole) throws IOException {
+        for (Class<?> root : schema.roots()) {
+            StringWriter output = new StringWriter();
+            JsonWriter writer = new JsonWriter(output);
+            writer.setIndent("  ");
+            typeGraph.writeExample(writer, root);
+            writer.flush();
+            blackhole.consume(output.toString());
+        }
+    }
+
+    /**
+     * Builds the whole documentation model
+     */
+    @Benchmark
+    public GraphQLDocModel build() throws Exception {
+        return new DocModelBuilder(properties, schema.resourceResolver(), schema.resolverDiscovery()).build();
+    }
+
+    /**
+     * Renders the documentation page
+     */
+    @Benchmark
+    public RenderedPage render() {
+        return pageRenderer.render(model);
+    }
+
+}
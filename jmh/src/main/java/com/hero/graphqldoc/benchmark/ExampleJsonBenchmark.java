@@ -0,0 +1,119 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.hero.graphqldoc.builder.ExampleValues;
+import com.hero.graphqldoc.builder.TypeGraph;
+import com.hero.graphqldoc.builder.TypeIntrospection;
+import com.hero.graphqldoc.models.FieldDetails;
+import com.hero.graphqldoc.parser.QueryParser;
+import com.hero.graphqldoc.parser.SchemaFileParser;
+import com.hero.graphqldoc.parser.SchemaIndex;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing example responses with one streaming writer
+ * with building org.json objects, serializing, parsing and pretty printing them again with Gson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExampleJsonBenchmark {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    @Param({"10", "100", "1000", "10000"})
+    public int types;
+
+    private SyntheticSchema schema;
+    private TypeGraph typeGraph;
+    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        schema = SyntheticSchema.generate(types, 8);
+        SchemaIndex schemaIndex = QueryParser.index(SchemaFileParser.parse(schema.resources()));
+        typeGraph = new TypeGraph(schemaIndex, 2, new HashMap<>(), new HashMap<>(), new TreeSet<>());
+        for (Class<?> root : schema.roots()) {
+            typeGraph.visit(root, root.getSimpleName());
+        }
+        for (Class<?> type : schema.types()) {
+            List<Field> typeFields = new ArrayList<>();
+            for (FieldDetails fieldDefinition : schemaIndex.getFields(type.getSimpleName())) {
+                typeFields.add(type.getDeclaredField(fieldDefinition.getName()));
+            }
+            fields.put(type, typeFields);
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        for (Class<?> root : schema.roots()) {
+            StringWriter output = new StringWriter();
+            JsonWriter writer = new JsonWriter(output);
+            writer.setIndent("  ");
+            writer.beginObject().name("data").beginObject().name(root.getSimpleName());
+            typeGraph.writeExample(writer, root);
+            writer.endObject().endObject().flush();
+            blackhole.consume(output.toString());
+        }
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole blackhole) {
+        for (Class<?> root : schema.roots()) {
+            JSONObject data = new JSONObject();
+            JSONObject field = new JSONObject();
+            data.put("data", field);
+            field.put(root.getSimpleName(), example(root));
+            blackhole.consume(GSON.toJson(JsonParser.parseString(data.toString())));
+        }
+    }
+
+    private JSONObject example(Class<?> type) {
+        JSONObject object = new JSONObject();
+        for (Field field : fields.get(type)) {
+            Class<?> elementType = TypeIntrospection.resolve(field.getGenericType()).elementType();
+            if (ExampleValues.isJava(elementType)) {
+                object.put(field.getName(), ExampleValues.objectExample(field.getType(), ""));
+            } else {
+                object.put(field.getName(), example(elementType));
+            }
+        }
+        return object;
+    }
+
+}
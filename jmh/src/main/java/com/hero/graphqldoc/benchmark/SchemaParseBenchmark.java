@@ -0,0 +1,63 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.benchmark;
+
+import com.hero.graphqldoc.parser.SchemaFileParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.Resource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing schema files one after another with the parallel parse of {@link SchemaFileParser}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaParseBenchmark {
+
+    private static final int TYPES_PER_FILE = 10;
+
+    @Param({"10", "100", "1000"})
+    public int files;
+
+    private Resource[] resources;
+
+    @Setup
+    public void setUp() {
+        resources = SyntheticSchema.generateSchemaFiles(files * TYPES_PER_FILE, 8);
+    }
+
+    @Benchmark
+    public TypeDefinitionRegistry sequential() {
+        TypeDefinitionRegistry typeRegistry = new TypeDefinitionRegistry();
+        for (Resource resource : resources) {
+            typeRegistry.merge(SchemaFileParser.parse(resource));
+        }
+        return typeRegistry;
+    }
+
+    @Benchmark
+    public TypeDefinitionRegistry parallel() {
+        return SchemaFileParser.parse(resources);
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.benchmark;
+
+import com.hero.graphqldoc.annotations.QueryType;
+import com.hero.graphqldoc.discovery.ResolverDiscovery;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.DescriptiveResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a schema with its Java classes and query resolver for benchmarks.
+ * Types are grouped in chains of {@code depth} types. Every type references the next type of its chain and the
+ * one after as a list, so deep types are shared by many paths of the chain root. Every chain root is a query.
+ * Java sources are compiled at setup, so the classes are real class files with generic signatures and parameter names.
+ */
+public class SyntheticSchema {
+
+    public static final String PACKAGE = "com.hero.graphqldoc.benchmark.generated";
+    private static final int TYPES_PER_FILE = 10;
+    private final int typeCount;
+    private final int depth;
+    private final List<String> schemaFiles = new ArrayList<>();
+    private final List<Class<?>> types = new ArrayList<>();
+    private final List<Class<?>> roots = new ArrayList<>();
+    private Class<?> resolver;
+    private ClassLoader classLoader;
+
+    private SyntheticSchema(int typeCount, int depth) {
+        this.typeCount = typeCount;
+        this.depth = depth;
+    }
+
+    /**
+     * Generates schema files and compiles the classes
+     *
+     * @param typeCount number of object types
+     * @param depth     number of types in one reference chain
+     * @return generated schema
+     */
+    public static SyntheticSchema generate(int typeCount, int depth) throws IOException {
+        SyntheticSchema schema = new SyntheticSchema(typeCount, depth);
+        schema.generateSchemaFiles();
+        schema.compileClasses();
+        return schema;
+    }
+
+    /**
+     * Generates only the schema files
+     *
+     * @param typeCount number of object types
+     * @param depth     number of types in one reference chain
+     * @return schema files as in memory resources
+     */
+    public static Resource[] generateSchemaFiles(int typeCount, int depth) {
+        SyntheticSchema schema = new SyntheticSchema(typeCount, depth);
+        schema.generateSchemaFiles();
+        return schema.resources();
+    }
+
+    private boolean isRoot(int index) {
+        return index % depth == 0;
+    }
+
+    private boolean hasReference(int index, int distance) {
+        return index + distance < typeCount && (index + distance) / depth == index / depth;
+    }
+
+    private void generateSchemaFiles() {
+        for (int file = 0; file * TYPES_PER_FILE < typeCount; file++) {
+            StringBuilder builder = new StringBuilder();
+            StringBuilder queries = new StringBuilder();
+            for (int i = file * TYPES_PER_FILE; i < Math.min(typeCount, (file + 1) * TYPES_PER_FILE); i++) {
+                builder.append("type T").append(i).append(" {\n  id: ID\n  name: String\n  count: Int\n");
+                if (hasReference(i, 1)) {
+                    builder.append("  next: T").append(i + 1).append('\n');
+                }
+                if (hasReference(i, 2)) {
+                    builder.append("  children: [T").append(i + 2).append("]\n");
+                }
+                builder.append("}\n");
+                if (isRoot(i)) {
+                    queries.append("  t").append(i).append("(id: ID, filter: T").append(i).append("Filter): T").append(i).append('\n');
+                    builder.append("input T").append(i).append("Filter {\n  name: String\n  minCount: Int\n}\n");
+                }
+            }
+            if (!queries.isEmpty()) {
+                builder.append("extend type Query {\n").append(queries).append("}\n");
+            }
+            schemaFiles.add(builder.toString());
+        }
+    }
+
+    private void compileClasses() throws IOException {
+        Path sourceDirectory = Files.createTempDirectory("graphql-doc-jmh");
+        Path packageDirectory = Files.createDirectories(sourceDirectory.resolve(PACKAGE.replace('.', '/')));
+        List<String> sources = new ArrayList<>();
+        StringBuilder resolverSource = new StringBuilder("package " + PACKAGE + ";\n\n")
+                .append("@com.hero.graphqldoc.annotations.QueryType(key = \"Synthetic Query\", description = \"Synthetic queries\")\n")
+                .append("public class SyntheticResolver implements graphql.kickstart.tools.GraphQLQueryResolver {\n");
+        for (int i = 0; i < typeCount; i++) {
+            StringBuilder source = new StringBuilder("package " + PACKAGE + ";\n\n")
+                    .append("@com.hero.graphqldoc.annotations.Schema(description = \"Type ").append(i).append("\")\n")
+                    .append("public class T").append(i).append(" {\n")
+                    .append("    @com.hero.graphqldoc.annotations.SchemaType(example = \"").append(i).append("\", description = \"Id\")\n")
+                    .append("    private String id;\n    private String name;\n    private Integer count;\n");
+            if (hasReference(i, 1)) {
+                source.append("    private T").append(i + 1).append(" next;\n");
+            }
+            if (hasReference(i, 2)) {
+                source.append("    private java.util.List<T").append(i + 2).append("> children;\n");
+            }
+            sources.add(write(packageDirectory, "T" + i, source.append("}\n")));
+            if (isRoot(i)) {
+                sources.add(write(packageDirectory, "T" + i + "Filter", new StringBuilder("package " + PACKAGE + ";\n\n")
+                        .append("public class T").append(i).append("Filter {\n")
+                        .append("    @com.hero.graphqldoc.annotations.SchemaType(example = \"x\")\n")
+                        .append("    private String name;\n    private Integer minCount;\n}\n")));
+                resolverSource.append("    @com.hero.graphqldoc.annotations.GraphQLDocDetail(operation = \"Get T").append(i)
+                        .append("\", description = \"Returns T").append(i).append("\")\n")
+                        .append("    public T").append(i).append(" t").append(i).append("(String id, T").append(i).append("Filter filter) {\n")
+                        .append("        return null;\n    }\n");
+            }
+        }
+        sources.add(write(packageDirectory, "SyntheticResolver", resolverSource.append("}\n")));
+        compile(sourceDirectory, sources);
+        classLoader = new URLClassLoader(new URL[]{sourceDirectory.toUri().toURL()}, SyntheticSchema.class.getClassLoader());
+        try {
+            for (int i = 0; i < typeCount; i++) {
+                Class<?> type = classLoader.loadClass(PACKAGE + ".T" + i);
+                types.add(type);
+                if (isRoot(i)) {
+                    roots.add(type);
+                }
+            }
+            resolver = classLoader.loadClass(PACKAGE + ".SyntheticResolver");
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String write(Path directory, String className, StringBuilder source) throws IOException {
+        Path file = directory.resolve(className + ".java");
+        Files.writeString(file, source);
+        return file.toString();
+    }
+
+    private static void compile(Path outputDirectory, List<String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Benchmarks must run on a JDK, the Java compiler is not available");
+        }
+        List<String> arguments = new ArrayList<>(List.of("-parameters", "-proc:none", "-nowarn",
+                "-cp", System.getProperty("java.class.path"), "-d", outputDirectory.toString()));
+        arguments.addAll(sources);
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        if (compiler.run(null, null, errors, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Synthetic classes could not be compiled\n" + errors.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Returns schema files as in memory resources
+     */
+    public Resource[] resources() {
+        Resource[] resources = new Resource[schemaFiles.size()];
+        for (int i = 0; i < resources.length; i++) {
+            resources[i] = new ByteArrayResource(schemaFiles.get(i).getBytes(StandardCharsets.UTF_8), "synthetic-" + i + ".graphqls");
+        }
+        return resources;
+    }
+
+    /**
+     * Returns resolver that resolves every pattern to the schema files and loads the generated classes
+     */
+    public ResourcePatternResolver resourceResolver() {
+        Resource[] resources = resources();
+        return new ResourcePatternResolver() {
+            @Override
+            public Resource[] getResources(String locationPattern) {
+                return resources;
+            }
+
+            @Override
+            public Resource getResource(String location) {
+                return new DescriptiveResource(location);
+            }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return classLoader;
+            }
+        };
+    }
+
+    /**
+     * Returns discovery of the generated resolver
+     */
+    public ResolverDiscovery resolverDiscovery() {
+        Map<Class<? extends Annotation>, Set<Class<?>>> resolvers = Map.of(QueryType.class, Set.of(resolver));
+        return () -> resolvers;
+    }
+
+    public Class<?> resolver() {
+        return resolver;
+    }
+
+    public List<Class<?>> types() {
+        return types;
+    }
+
+    public List<Class<?>> roots() {
+        return roots;
+    }
+
+    public ClassLoader classLoader() {
+        return classLoader;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.benchmark;
+
+import com.hero.graphqldoc.builder.ExampleValues;
+import com.hero.graphqldoc.builder.TypeGraph;
+import com.hero.graphqldoc.builder.TypeIntrospection;
+import com.hero.graphqldoc.models.FieldDetails;
+import com.hero.graphqldoc.parser.QueryParser;
+import com.hero.graphqldoc.parser.SchemaFileParser;
+import com.hero.graphqldoc.parser.SchemaIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the memoized type graph with walking every nested type again for each reference,
+ * on a deep model where every type is shared by many paths of its chain root
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeGraphBenchmark {
+
+    private static final int TYPES = 1000;
+
+    @Param({"8", "16"})
+    public int depth;
+
+    private SyntheticSchema schema;
+    private SchemaIndex schemaIndex;
+
+    @Setup
+    public void setUp() throws Exception {
+        schema = SyntheticSchema.generate(TYPES, depth);
+        schemaIndex = QueryParser.index(SchemaFileParser.parse(schema.resources()));
+    }
+
+    @Benchmark
+    public void memoized(Blackhole blackhole) {
+        TypeGraph graph = new TypeGraph(schemaIndex, 2, new HashMap<>(), new HashMap<>(), new TreeSet<>());
+        for (Class<?> root : schema.roots()) {
+            graph.visit(root, root.getSimpleName());
+            blackhole.consume(graph.response(root));
+        }
+    }
+
+    @Benchmark
+    public void unmemoized(Blackhole blackhole) throws NoSuchFieldException {
+        for (Class<?> root : schema.roots()) {
+            StringBuilder selection = new StringBuilder();
+            walk(root, selection);
+            blackhole.consume(selection.toString());
+        }
+    }
+
+    /**
+     * Walks nested types again for every reference like the recursive definition creation did
+     */
+    private void walk(Class<?> type, StringBuilder selection) throws NoSuchFieldException {
+        for (FieldDetails fieldDefinition : schemaIndex.getFields(type.getSimpleName())) {
+            Field field = type.getDeclaredField(fieldDefinition.getName());
+            Class<?> elementType = TypeIntrospection.resolve(field.getGenericType()).elementType();
+            selection.append(field.getName());
+            if (!ExampleValues.isJava(elementType)) {
+                selection.append(" {\n");
+                walk(elementType, selection);
+                selection.append('}');
+            }
+            selection.append('\n');
+        }
+    }
+
+}
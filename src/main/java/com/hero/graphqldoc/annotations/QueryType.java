@@ -7,6 +7,7 @@
 package com.hero.graphqldoc.annotations;
 
 import org.springframework.core.annotation.AliasFor;
+import org.springframework.stereotype.Indexed;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -15,6 +16,7 @@ import java.lang.annotation.Target;
 
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
+@Indexed
 @GraphQLType(type = "Query")
 public @interface QueryType {
 
@@ -0,0 +1,239 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.parser.IncrementalSchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operations of previous builds kept as fragment files in a directory, so they are reused across restarts.
+ * A fragment file is named by the hash of the operation, its schema field and its resolver class, and it records the
+ * hashes of the schema types and classes the operation was built from. The fragment is reused while all of them are
+ * unchanged. Schema types are hashed by their printed definitions, classes by their bytecode. Fragments which are not
+ * used by a build are deleted after the build.
+ */
+@Slf4j
+public class DocFragmentStore {
+
+    private static final String FORMAT_VERSION = "4";
+    private static final String SUFFIX = ".json";
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+    private final Path directory;
+    private final int recursionDepth;
+    private final Map<String, String> classHashes = new HashMap<>();
+    private final Map<String, String> typeHashes = new HashMap<>();
+    private final Map<String, Fragment> reused = new HashMap<>();
+    private final Map<String, Fragment> built = new HashMap<>();
+    private final Set<String> kept = new HashSet<>();
+    private Map<String, String> types = Map.of();
+    private Map<String, String> operations = Map.of();
+    private ClassLoader classLoader;
+
+    public DocFragmentStore(Path directory, int recursionDepth) {
+        this.directory = directory;
+        this.recursionDepth = recursionDepth;
+    }
+
+    /**
+     * Prints the schema definitions the fragments are compared with
+     *
+     * @param typeRegistry merged schema registry
+     * @param classLoader  class loader of the documented classes
+     */
+    void start(TypeDefinitionRegistry typeRegistry, ClassLoader classLoader) {
+        this.types = IncrementalSchemaParser.typeDefinitions(typeRegistry);
+        this.operations = IncrementalSchemaParser.operationDefinitions(typeRegistry);
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns sources of the operation stored by a previous build when its inputs are unchanged
+     *
+     * @param key      operation key like QUERY:getUser
+     * @param name     schema field name of the operation
+     * @param resolver resolver class of the operation
+     * @return sources of the operation or null when it must be built
+     */
+    DocModelCache.OperationSources reusable(String key, String name, Class<?> resolver) {
+        String id = id(key, name, resolver);
+        Fragment fragment = read(id);
+        if (fragment == null || !key.equals(fragment.key) || !fragment.types.entrySet().stream().allMatch(type -> type.getValue().equals(typeHash(type.getKey()))) ||
+                !fragment.classes.entrySet().stream().allMatch(type -> type.getValue().equals(classHash(type.getKey())))) {
+            return null;
+        }
+        reused.put(id, fragment);
+        return new DocModelCache.OperationSources(fragment.method, fragment.types.keySet(), fragment.javaTypes, fragment.classes.keySet());
+    }
+
+    /**
+     * Records sources of a built operation, the fragment is written when the build finishes
+     */
+    void record(String key, String name, Class<?> resolver, DocModelCache.OperationSources sources) {
+        Fragment fragment = new Fragment();
+        fragment.key = key;
+        fragment.method = sources.method();
+        fragment.javaTypes = sources.javaTypes();
+        sources.types().forEach(type -> fragment.types.put(type, typeHash(type)));
+        sources.classes().forEach(className -> fragment.classes.put(className, classHash(className)));
+        built.put(id(key, name, resolver), fragment);
+    }
+
+    /**
+     * Keeps the fragment of an operation reused from the in-memory cache of the previous build
+     * The fragment is recorded again when its file is missing, like when the directory was cleaned
+     */
+    void keep(String key, String name, Class<?> resolver, DocModelCache.OperationSources sources) {
+        String id = id(key, name, resolver);
+        if (Files.isRegularFile(directory.resolve(id + SUFFIX))) {
+            kept.add(id);
+        } else {
+            record(key, name, resolver, sources);
+        }
+    }
+
+    /**
+     * Copies type definitions of reused operations, types also used by built operations are not replaced
+     */
+    void copyReusedTypes(Map<String, GraphQLClassFields> objectTypes, Map<String, String> graphQLToJavaMap) {
+        for (Fragment fragment : reused.values()) {
+            fragment.objectTypes.forEach(objectTypes::putIfAbsent);
+            fragment.graphQLToJavaMap.forEach(graphQLToJavaMap::putIfAbsent);
+        }
+    }
+
+    /**
+     * Writes fragments of the built operations and deletes fragments which are not used by the build
+     * Failures are logged, the next build builds the affected operations again
+     */
+    void finish(GraphQLDocModel model) {
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, Fragment> entry : built.entrySet()) {
+                Fragment fragment = entry.getValue();
+                for (String javaType : fragment.javaTypes) {
+                    GraphQLClassFields classFields = model.getObjectTypes().get(javaType);
+                    if (classFields != null) {
+                        fragment.objectTypes.put(javaType, classFields);
+                    }
+                    String graphQLName = model.getGraphQLToJavaMap().get(javaType);
+                    if (graphQLName != null) {
+                        fragment.graphQLToJavaMap.put(javaType, graphQLName);
+                    }
+                }
+                write(entry.getKey(), fragment);
+            }
+            delete(unused());
+        } catch (IOException e) {
+            log.warn("GraphQL documentation fragments could not be written to {}", directory, e);
+        }
+        log.debug("Reused {}, kept {} and stored {} documentation fragments in {}", reused.size(), kept.size(), built.size(), directory);
+    }
+
+    private Set<Path> unused() throws IOException {
+        Set<Path> unused = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String id = file.getFileName().toString();
+                id = id.substring(0, id.length() - SUFFIX.length());
+                if (!reused.containsKey(id) && !built.containsKey(id) && !kept.contains(id)) {
+                    unused.add(file);
+                }
+            }
+        }
+        return unused;
+    }
+
+    private static void delete(Set<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Fragment read(String id) {
+        try (Reader reader = Files.newBufferedReader(directory.resolve(id + SUFFIX), StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, Fragment.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | JsonParseException e) {
+            log.debug("GraphQL documentation fragment {} could not be read, it will be rebuilt", id, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the fragment to a temporary file first, so readers never see a partly written fragment
+     */
+    private void write(String id, Fragment fragment) throws IOException {
+        Path temp = Files.createTempFile(directory, id, ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(fragment, writer);
+            }
+            Files.move(temp, directory.resolve(id + SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the file name of the operation, changes of the schema field or the resolver give a new name
+     */
+    private String id(String key, String name, Class<?> resolver) {
+        String content = String.join("\u0000", FORMAT_VERSION, String.valueOf(recursionDepth), key,
+                String.valueOf(operations.get(name)), resolver.getName(), classHash(resolver.getName()));
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String typeHash(String type) {
+        return typeHashes.computeIfAbsent(type, name -> {
+            String definition = types.get(name);
+            return definition == null ? "" : DigestUtils.md5DigestAsHex(definition.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    private String classHash(String className) {
+        return classHashes.computeIfAbsent(className, name -> DocModelCache.hash(classLoader, name));
+    }
+
+    /**
+     * Built operation with the hashes of its inputs and the type definitions it uses
+     */
+    private static class Fragment {
+
+        private String key;
+        private GraphQLMethodObject method;
+        private Map<String, String> types = new HashMap<>();
+        private Map<String, String> classes = new HashMap<>();
+        private Set<String> javaTypes = new HashSet<>();
+        private Map<String, GraphQLClassFields> objectTypes = new HashMap<>();
+        private Map<String, String> graphQLToJavaMap = new HashMap<>();
+
+    }
+
+}
@@ -0,0 +1,516 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.google.gson.stream.JsonWriter;
+import com.hero.graphqldoc.annotations.GraphQLDocDetail;
+import com.hero.graphqldoc.annotations.GraphQLType;
+import com.hero.graphqldoc.annotations.MutationType;
+import com.hero.graphqldoc.annotations.ParameterType;
+import com.hero.graphqldoc.annotations.QueryType;
+import com.hero.graphqldoc.annotations.SubscriptionType;
+import com.hero.graphqldoc.discovery.ClasspathResolverDiscovery;
+import com.hero.graphqldoc.discovery.ResolverDiscovery;
+import com.hero.graphqldoc.enums.GraphType;
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.GraphQLObject;
+import com.hero.graphqldoc.models.GraphQLQueryType;
+import com.hero.graphqldoc.models.GraphQLTypeDetails;
+import com.hero.graphqldoc.parser.QueryParser;
+import com.hero.graphqldoc.parser.SchemaFileParser;
+import com.hero.graphqldoc.parser.SchemaIndex;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.AstPrinter;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.language.SelectionSet;
+import graphql.language.Value;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.leangen.geantyref.AnnotationFormatException;
+import io.leangen.geantyref.TypeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.Resource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.StringLiteral;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static com.hero.graphqldoc.builder.ExampleValues.isJava;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Builds the documentation model from the schema files and the annotated resolvers.
+ * A builder instance holds the intermediate state of a single build, so it must not be reused.
+ */
+@Slf4j
+public class DocModelBuilder {
+
+    private static final String SECURE_TEXT = "Only for authenticated users with roles : %s";
+    private final GraphQLDocProperties properties;
+    private final Map<String, GraphQLObject> map = new HashMap<>();
+    private final Map<String, GraphQLClassFields> objectTypeMap = new HashMap<>();
+    private final Map<String, String> graphQLToJavaMap = new HashMap<>();
+    private final Set<String> sourceClasses = new TreeSet<>();
+    private final ResourcePatternResolver resourceResolver;
+    private final ResolverDiscovery resolverDiscovery;
+    private Map<Class<? extends Annotation>, Set<Class<?>>> resolvers;
+    private TypeGraph typeGraph;
+    private DocModelCache cache;
+    private DocFragmentStore fragments;
+    private TypeDefinitionRegistry schemaRegistry;
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+    private final Set<String> reusedJavaTypes = new HashSet<>();
+    private int reusedOperations;
+
+    public DocModelBuilder(GraphQLDocProperties properties, ResourcePatternResolver resourceResolver) {
+        this(properties, resourceResolver, new ClasspathResolverDiscovery(resourceResolver, properties.getPackageName()));
+    }
+
+    public DocModelBuilder(GraphQLDocProperties properties, ResourcePatternResolver resourceResolver, ResolverDiscovery resolverDiscovery) {
+        this.properties = properties;
+        this.resourceResolver = resourceResolver;
+        this.resolverDiscovery = resolverDiscovery;
+    }
+
+    /**
+     * Builds only the operations affected by changes since the previous build of the cache
+     *
+     * @param cache state of the previous build, updated with this build
+     * @return this builder
+     */
+    public DocModelBuilder withCache(DocModelCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Documents the given schema registry instead of parsing the schema files
+     * The registry is not used with a cache, since the cache parses changed schema files
+     *
+     * @param schemaRegistry registry of the schema served by the application
+     * @return this builder
+     */
+    public DocModelBuilder withSchema(TypeDefinitionRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+        return this;
+    }
+
+    /**
+     * Reuses operations stored by previous builds, also after a restart
+     *
+     * @param fragments operations of previous builds, updated with this build
+     * @return this builder
+     */
+    public DocModelBuilder withFragments(DocFragmentStore fragments) {
+        this.fragments = fragments;
+        return this;
+    }
+
+    /**
+     * Records build phases as startup steps
+     *
+     * @param applicationStartup startup of the application context
+     * @return this builder
+     */
+    public DocModelBuilder withStartup(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+        return this;
+    }
+
+    /**
+     * Parses the schema files and generates the documentation model
+     *
+     * @return documentation model
+     */
+    public GraphQLDocModel build() throws IOException, AnnotationFormatException {
+        TypeDefinitionRegistry typeRegistry = schemaRegistry != null && cache == null ? schemaRegistry : parseSchema();
+        if (fragments != null) {
+            fragments.start(typeRegistry, resourceResolver.getClassLoader());
+        }
+        StartupStep step = applicationStartup.start("graphql.doc.schema.index");
+        SchemaIndex schemaIndex = QueryParser.index(typeRegistry);
+        step.tag("types", String.valueOf(schemaIndex.size())).end();
+        typeGraph = new TypeGraph(schemaIndex, properties.getRecursionDepth(), objectTypeMap, graphQLToJavaMap, sourceClasses);
+        long start = System.nanoTime();
+        step = applicationStartup.start("graphql.doc.resolvers");
+        resolvers = resolverDiscovery.discover();
+        int resolverCount = resolvers.values().stream().mapToInt(Set::size).sum();
+        step.tag("discovery", resolverDiscovery.getClass().getSimpleName()).tag("classes", String.valueOf(resolverCount)).end();
+        log.debug("Discovered {} resolver classes with {} in {} ms", resolverCount,
+                resolverDiscovery.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        getQueries(schemaIndex);
+        getMutations(schemaIndex);
+        getSubscriptions(schemaIndex);
+        copyReusedTypes();
+        GraphQLDocModel model = new GraphQLDocModel();
+        model.setDetails(map);
+        model.setObjectTypes(objectTypeMap);
+        model.setGraphQLToJavaMap(graphQLToJavaMap);
+        model.setSourceClasses(new ArrayList<>(sourceClasses));
+        model.setFingerprint(DocModelStore.fingerprint(properties, resourceResolver, DocModelStore.resolverNames(resolvers),
+                model.getSourceClasses()));
+        if (cache != null) {
+            cache.finish(model, resourceResolver.getClassLoader());
+            log.debug("Reused {} unchanged operations of the previous build", reusedOperations);
+        }
+        if (fragments != null) {
+            fragments.finish(model);
+        }
+        return model;
+    }
+
+    /**
+     * Parses the schema files, only the changed files when there is a cache
+     */
+    private TypeDefinitionRegistry parseSchema() throws IOException {
+        StartupStep step = applicationStartup.start("graphql.doc.resources");
+        Resource[] resources = resourceResolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + properties.getSchemaLocationPattern());
+        step.tag("files", String.valueOf(resources.length)).end();
+        step = applicationStartup.start("graphql.doc.schema.parse");
+        TypeDefinitionRegistry typeRegistry = cache == null ? SchemaFileParser.parse(resources) : cache.start(resources, resourceResolver.getClassLoader());
+        step.tag("types", String.valueOf(typeRegistry.types().size())).end();
+        return typeRegistry;
+    }
+
+    /**
+     * Copies type definitions of reused operations from the previous model
+     * Types also used by rebuilt operations are not replaced
+     */
+    private void copyReusedTypes() {
+        if (fragments != null) {
+            fragments.copyReusedTypes(objectTypeMap, graphQLToJavaMap);
+        }
+        GraphQLDocModel previous = cache == null ? null : cache.getPrevious();
+        if (previous == null) {
+            return;
+        }
+        for (String javaType : reusedJavaTypes) {
+            GraphQLClassFields classFields = previous.getObjectTypes().get(javaType);
+            if (classFields != null) {
+                objectTypeMap.putIfAbsent(javaType, classFields);
+            }
+            String graphQLName = previous.getGraphQLToJavaMap().get(javaType);
+            if (graphQLName != null) {
+                graphQLToJavaMap.putIfAbsent(javaType, graphQLName);
+            }
+        }
+    }
+
+    /**
+     * Creates the GraphQL schema for the queries
+     *
+     * @param schemaIndex schema details
+     */
+    private void getQueries(SchemaIndex schemaIndex)
+            throws AnnotationFormatException, IOException {
+        List<GraphQLTypeDetails> queries = schemaIndex.getOperations(GraphType.QUERY);
+        addMethods(queries, QueryType.class, OperationDefinition.Operation.QUERY);
+    }
+
+    /**
+     * Creates the GraphQL schema for the mutations
+     *
+     * @param schemaIndex schema details
+     */
+    private void getMutations(SchemaIndex schemaIndex) throws AnnotationFormatException, IOException {
+        List<GraphQLTypeDetails> queries = schemaIndex.getOperations(GraphType.MUTATION);
+        addMethods(queries, MutationType.class, OperationDefinition.Operation.MUTATION);
+    }
+
+    /**
+     * Creates the GraphQL schema for the subscriptions
+     *
+     * @param schemaIndex schema details
+     */
+    private void getSubscriptions(SchemaIndex schemaIndex) throws AnnotationFormatException, IOException {
+        List<GraphQLTypeDetails> queries = schemaIndex.getOperations(GraphType.SUBSCRIPTION);
+        addMethods(queries, SubscriptionType.class, OperationDefinition.Operation.SUBSCRIPTION);
+    }
+
+    /**
+     * This method is used to get the class methods with GraphQL annotations
+     *
+     * @param annotation with @GraphQLDocDetail
+     * @return methods annotated with the given annotation
+     */
+    public Set<Method> getAnnotatedMethods(Class<?> clazz, Class<? extends Annotation> annotation) {
+        return new HashSet<>(TypeIntrospection.of(clazz).getAnnotatedMethods(annotation));
+    }
+
+    /**
+     * This method creates requests, responses for given GraphQL queries.
+     * It also creates the GraphQL schema for the queries
+     */
+    private void addMethods(List<GraphQLTypeDetails> queries, Class<? extends Annotation> annotationClass,
+                            OperationDefinition.Operation operation) throws AnnotationFormatException, IOException {
+        StartupStep step = applicationStartup.start("graphql.doc.operations").tag("type", operation.name());
+        int operationCount = 0;
+        Map<String, GraphQLTypeDetails> queryNameList = queries.stream().collect(toMap(item -> item.getQlQueryType().getName(), i -> i));
+        Set<Class<?>> queryClasses = resolvers.getOrDefault(annotationClass, Set.of());
+        for (Class<?> clazz : queryClasses) {
+            sourceClasses.add(clazz.getName());
+            GraphQLType graphQLType = getGraphQlAnnotationType(annotationClass, clazz);
+            GraphQLObject object = new GraphQLObject();
+            object.setDescription(graphQLType.description());
+            object.setKey(graphQLType.key());
+            Set<Method> methods = getAnnotatedMethods(clazz, GraphQLDocDetail.class);
+            List<GraphQLMethodObject> objectDetails = new ArrayList<>();
+            for (Method method : methods) {
+                String name = checkMethodIsAvailable(queryNameList.keySet(), method.getName());
+                String key = operation + ":" + name;
+                DocModelCache.OperationSources reused = name == null || cache == null ? null : cache.reusable(key, name);
+                if (reused != null && fragments != null) {
+                    fragments.keep(key, name, clazz, reused);
+                } else if (reused == null && name != null && fragments != null) {
+                    reused = fragments.reusable(key, name, clazz);
+                    if (reused != null && cache != null) {
+                        cache.record(key, reused);
+                    }
+                }
+                if (reused != null) {
+                    objectDetails.add(reused.method());
+                    reusedOperations++;
+                    reusedJavaTypes.addAll(reused.javaTypes());
+                    sourceClasses.addAll(reused.classes());
+                } else if (name != null) {
+                    GraphQLMethodObject methodObject = new GraphQLMethodObject();
+                    GraphQLDocDetail graphQLDocDetail = method.getAnnotation(GraphQLDocDetail.class);
+                    methodObject.setDescription(graphQLDocDetail.description());
+                    methodObject.setName(name);
+                    methodObject.setOperationType(operation.name());
+                    methodObject.setMethodName(method.getName());
+                    methodObject.setOperation(graphQLDocDetail.operation());
+                    methodObject.setAuthString(createAuthString(method));
+                    objectDetails.add(methodObject);
+                    createClassFields(method, methodObject, queryNameList, operation);
+                    if (cache != null || fragments != null) {
+                        DocModelCache.OperationSources sources = operationSources(clazz, method, methodObject, queryNameList.get(name));
+                        if (cache != null) {
+                            cache.record(key, sources);
+                        }
+                        if (fragments != null) {
+                            fragments.record(key, name, clazz, sources);
+                        }
+                    }
+                }
+            }
+            if (objectDetails.isEmpty()) {
+                continue;
+            }
+            object.setObjects(objectDetails);
+            map.put(graphQLType.key().replace(" ", "_"), object);
+            operationCount += objectDetails.size();
+        }
+        step.tag("operations", String.valueOf(operationCount)).end();
+    }
+
+    private String createAuthString(Method method) {
+        ExpressionParser parser = new SpelExpressionParser();
+        PreAuthorize authorize = method.getAnnotation(PreAuthorize.class);
+        if (authorize == null) {
+            return null;
+        }
+        Expression expression = parser.parseExpression(authorize.value());
+        MethodReference reference = ((MethodReference) ((SpelExpression) expression).getAST());
+        switch (reference.getName()) {
+            case "isAnonymous":
+                return "Only anonymous users can access this resource";
+            case "hasRole", "hasAnyRole":
+                StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < reference.getChildCount(); i++) {
+                    StringLiteral node = (StringLiteral) reference.getChild(i);
+                    if (node.getOriginalValue() != null) {
+                        builder.append(node.getOriginalValue().replaceAll("ROLE_", "")).append(", ");
+                    }
+                }
+                return String.format(SECURE_TEXT, builder.substring(0, builder.toString().length() - 2));
+            case "isAuthenticated":
+                return String.format(SECURE_TEXT, "Any Role");
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Map sub annotation fields to Main annotation (@GraphQLType) fields
+     * for generic use
+     */
+    private GraphQLType getGraphQlAnnotationType(Class<? extends Annotation> annotationClass, Class<?> clazz) throws AnnotationFormatException {
+        if (annotationClass.isAssignableFrom(QueryType.class)) {
+            QueryType queryType = clazz.getAnnotation(QueryType.class);
+            Map<String, Object> annotationParameters = getMap(queryType.key(), queryType.description(), "Query");
+            return TypeFactory.annotation(GraphQLType.class, annotationParameters);
+        } else if (annotationClass.isAssignableFrom(MutationType.class)) {
+            MutationType queryType = clazz.getAnnotation(MutationType.class);
+            Map<String, Object> annotationParameters = getMap(queryType.key(), queryType.description(), "Mutation");
+            return TypeFactory.annotation(GraphQLType.class, annotationParameters);
+        } else if (annotationClass.isAssignableFrom(SubscriptionType.class)) {
+            SubscriptionType queryType = clazz.getAnnotation(SubscriptionType.class);
+            Map<String, Object> annotationParameters = getMap(queryType.key(), queryType.description(), "Subscription");
+            return TypeFactory.annotation(GraphQLType.class, annotationParameters);
+        }
+        return null;
+    }
+
+    /**
+     * Get annotation field maps
+     *
+     * @return hashmap of annotation fields
+     */
+    @NotNull
+    private Map<String, Object> getMap(String queryType, String queryType1, String type) {
+        Map<String, Object> annotationParameters = new HashMap<>();
+        annotationParameters.put("key", queryType);
+        annotationParameters.put("description", queryType1);
+        annotationParameters.put("type", type);
+        return annotationParameters;
+    }
+
+    /**
+     * Generates graphQL query for given class and method
+     * This method prepare all required fields for HTML
+     */
+    private void createClassFields(Method method, GraphQLMethodObject methodObject, Map<String, GraphQLTypeDetails> queryNameList,
+                                   OperationDefinition.Operation operation) throws IOException {
+        GraphQLTypeDetails typeDetails = queryNameList.get(methodObject.getName());
+        Class<?> returnClass = returnClass(method);
+        SelectionSet selectionSet = null;
+        StringWriter outputJson = new StringWriter();
+        JsonWriter writer = new JsonWriter(outputJson);
+        writer.setIndent("  ");
+        writer.beginObject().name("data").beginObject().name(methodObject.getName());
+        if (isJava(returnClass)) {
+            graphQLToJavaMap.putIfAbsent(returnClass.getSimpleName(), typeDetails.getQlQueryType().getOutputName());
+            typeGraph.visitEnum(returnClass, typeDetails.getQlQueryType().getOutputName());
+            TypeGraph.writeValue(writer, ExampleValues.objectExample(returnClass, null));
+        } else {
+            typeGraph.visit(returnClass, typeDetails.getQlQueryType().getOutputName());
+            typeGraph.writeExample(writer, returnClass);
+            selectionSet = typeGraph.response(returnClass).selection();
+        }
+        writer.endObject().endObject().flush();
+        methodObject.setOutputName(returnClass.getSimpleName());
+        methodObject.setOutputJson(outputJson.toString());
+        graphql.language.Field field = graphql.language.Field.newField(methodObject.getName())
+                .arguments(generateMethods(method, typeDetails))
+                .selectionSet(selectionSet)
+                .build();
+        OperationDefinition operationDefinition = OperationDefinition.newOperationDefinition()
+                .operation(operation)
+                .selectionSet(new SelectionSet(List.of(field)))
+                .build();
+        methodObject.setInputJson(AstPrinter.printAst(new Document(List.of(operationDefinition))));
+
+    }
+
+    /**
+     * Collects the types and classes the operation was built from
+     */
+    private DocModelCache.OperationSources operationSources(Class<?> resolver, Method method, GraphQLMethodObject methodObject,
+                                                            GraphQLTypeDetails typeDetails) {
+        Set<String> types = new HashSet<>();
+        Set<String> javaTypes = new HashSet<>();
+        Set<String> classes = new HashSet<>();
+        classes.add(resolver.getName());
+        types.add(typeDetails.getQlQueryType().getOutputName());
+        typeDetails.getInputs().values().forEach(input -> types.add(input.getOutputName()));
+        javaTypes.add(methodObject.getOutputName());
+        List<Class<?>> roots = new ArrayList<>(List.of(returnClass(method)));
+        for (TypeIntrospection.ResolvedType parameterType : TypeIntrospection.parameterTypes(method, method.getDeclaringClass())) {
+            roots.add(parameterType.elementType());
+        }
+        for (Class<?> root : roots) {
+            for (Class<?> type : typeGraph.reachable(root)) {
+                javaTypes.add(type.getSimpleName());
+                types.add(graphQLToJavaMap.get(type.getSimpleName()));
+                for (Class<?> current = type; current != null && !isJava(current); current = current.getSuperclass()) {
+                    classes.add(current.getName());
+                }
+            }
+        }
+        types.remove(null);
+        return new DocModelCache.OperationSources(methodObject, types, javaTypes, classes);
+    }
+
+    private static Class<?> returnClass(Method method) {
+        return TypeIntrospection.returnType(method, method.getDeclaringClass()).elementType();
+    }
+
+    /**
+     * Prepares method params for graphQL schema
+     */
+    private List<Argument> generateMethods(Method method, GraphQLTypeDetails typeDetails) {
+        List<Argument> arguments = new ArrayList<>();
+        Parameter[] parameters = method.getParameters();
+        List<TypeIntrospection.ResolvedType> parameterTypes = TypeIntrospection.parameterTypes(method, method.getDeclaringClass());
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            Class<?> elementType = parameterTypes.get(i).elementType();
+            Value<?> value;
+            if (isJava(elementType)) {
+                ParameterType schemaType = parameter.getAnnotation(ParameterType.class);
+                GraphQLQueryType input = typeDetails.getInputs().get(parameter.getName());
+                if (input != null) {
+                    typeGraph.visitEnum(elementType, input.getOutputName());
+                }
+                value = ExampleValues.literal(elementType, schemaType != null ? schemaType.example() : null);
+            } else {
+                GraphQLQueryType input = typeDetails.getInputs().get(parameter.getName());
+                typeGraph.visit(elementType, input != null ? input.getOutputName() : parameter.getName());
+                value = typeGraph.request(elementType);
+            }
+            arguments.add(new Argument(parameter.getName(), parameterTypes.get(i).list() ? new ArrayValue(List.of(value)) : value));
+        }
+        return arguments;
+    }
+
+    /**
+     * Returns schema method name for java method name
+     */
+    private String checkMethodIsAvailable(Set<String> queries, String methodName) {
+        if (queries.contains(methodName)) {
+            return methodName;
+        } else if (methodName.startsWith("get")) {
+            String val1 = methodName.replace("get", "");
+            char[] c = val1.toCharArray();
+            c[0] = Character.toLowerCase(c[0]);
+            String string = new String(c);
+            return queries.contains(string) ? string : null;
+        } else {
+            char[] c = methodName.toCharArray();
+            c[0] = Character.toUpperCase(c[0]);
+            String string = new String(c);
+            return queries.contains("get" + string) ? "get" + string : null;
+        }
+    }
+
+}
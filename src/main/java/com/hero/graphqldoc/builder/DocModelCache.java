@@ -0,0 +1,138 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.SchemaChanges;
+import com.hero.graphqldoc.parser.IncrementalSchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * State of the previous documentation build used to rebuild only the operations affected by a change.
+ * Only names and hashes are kept, no classes, so the cache can outlive the class loader of a devtools restart.
+ * An operation is reused when its schema field, the schema types and the classes it was built from are unchanged.
+ * When a build fails, the next build builds all operations again.
+ */
+public class DocModelCache {
+
+    private final IncrementalSchemaParser schemaParser = new IncrementalSchemaParser();
+    private Map<String, String> classHashes = new HashMap<>();
+    private Map<String, OperationSources> operations = new HashMap<>();
+    private Map<String, OperationSources> builtOperations = new HashMap<>();
+    private GraphQLDocModel model;
+    private GraphQLDocModel previous;
+    private SchemaChanges changes;
+    private Set<String> changedClasses = Set.of();
+
+    /**
+     * Parses changed schema files and finds changed classes of the previous build
+     *
+     * @param resources   schema files
+     * @param classLoader class loader of the documented classes
+     * @return merged schema registry
+     */
+    TypeDefinitionRegistry start(Resource[] resources, ClassLoader classLoader) {
+        TypeDefinitionRegistry typeRegistry = schemaParser.parse(resources);
+        changes = schemaParser.getChanges();
+        Set<String> changed = new HashSet<>();
+        classHashes.forEach((className, hash) -> {
+            if (!hash.equals(hash(classLoader, className))) {
+                changed.add(className);
+            }
+        });
+        changedClasses = changed;
+        builtOperations = new HashMap<>();
+        previous = model;
+        model = null;
+        return typeRegistry;
+    }
+
+    /**
+     * Returns sources of the operation in the previous build when the operation is not affected by changes
+     *
+     * @param key  operation key like QUERY:getUser
+     * @param name schema field name of the operation
+     * @return sources of the operation or null when it must be built
+     */
+    OperationSources reusable(String key, String name) {
+        OperationSources sources = operations.get(key);
+        if (previous == null || changes.isFull() || sources == null || changes.getOperations().contains(name) ||
+                !Collections.disjoint(sources.types(), changes.getTypes()) || !Collections.disjoint(sources.classes(), changedClasses)) {
+            return null;
+        }
+        builtOperations.put(key, sources);
+        return sources;
+    }
+
+    /**
+     * Records sources of a built operation
+     */
+    void record(String key, OperationSources sources) {
+        builtOperations.put(key, sources);
+    }
+
+    /**
+     * Keeps the built model and hashes of the classes its operations were built from
+     */
+    void finish(GraphQLDocModel built, ClassLoader classLoader) {
+        Map<String, String> hashes = new HashMap<>();
+        for (OperationSources sources : builtOperations.values()) {
+            for (String className : sources.classes()) {
+                hashes.computeIfAbsent(className, name -> hash(classLoader, name));
+            }
+        }
+        classHashes = hashes;
+        operations = builtOperations;
+        model = built;
+    }
+
+    /**
+     * Returns the model of the previous build
+     *
+     * @return previous model or null when all operations are built
+     */
+    GraphQLDocModel getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Returns md5 hash of the bytecode of the class
+     *
+     * @return hex encoded hash or empty string when the class file is not found
+     */
+    static String hash(ClassLoader classLoader, String className) {
+        try (InputStream inputStream = classLoader == null ? null : classLoader.getResourceAsStream(ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX)) {
+            return inputStream == null ? "" : DigestUtils.md5DigestAsHex(inputStream);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Sources an operation was built from
+     *
+     * @param method    built operation
+     * @param types     GraphQL type names used by the operation
+     * @param javaTypes simple names of the Java types used by the operation
+     * @param classes   names of the resolver and the classes used by the operation
+     */
+    record OperationSources(GraphQLMethodObject method, Set<String> types, Set<String> javaTypes, Set<String> classes) {
+    }
+
+}
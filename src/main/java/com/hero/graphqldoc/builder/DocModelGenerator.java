@@ -0,0 +1,51 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.hero.graphqldoc.enums.DiscoveryMode;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import io.leangen.geantyref.AnnotationFormatException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Build time entry point which writes the documentation model into the application classes.
+ * Usage: {@code DocModelGenerator <output directory> [schema location pattern] [package name] [recursion depth] [discovery mode]}
+ * Resolvers are always found by a classpath scan, the discovery mode is only part of the model fingerprint.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocModelGenerator {
+
+    public static void main(String[] args) throws IOException, AnnotationFormatException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Output directory is required");
+        }
+        GraphQLDocProperties properties = new GraphQLDocProperties();
+        if (args.length > 1) {
+            properties.setSchemaLocationPattern(args[1]);
+        }
+        if (args.length > 2) {
+            properties.setPackageName(args[2]);
+        }
+        if (args.length > 3) {
+            properties.setRecursionDepth(Integer.parseInt(args[3]));
+        }
+        if (args.length > 4) {
+            properties.setDiscoveryMode(DiscoveryMode.valueOf(args[4].toUpperCase(Locale.ROOT)));
+        }
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(Thread.currentThread().getContextClassLoader());
+        GraphQLDocModel model = new DocModelBuilder(properties, resolver).build();
+        DocModelStore.write(model, Path.of(args[0]));
+    }
+
+}
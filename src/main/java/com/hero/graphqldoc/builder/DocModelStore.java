@@ -0,0 +1,162 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.hero.graphqldoc.discovery.ResolverDiscovery;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads and writes the pre-built documentation model artifact.
+ * The artifact is trusted only while its fingerprint matches the schema files, resolvers and classes it was generated
+ * from and the settings which change the model.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocModelStore {
+
+    public static final String MODEL_PATH = "META-INF/graphql-doc/model.json";
+    private static final String FORMAT_VERSION = "3";
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * Loads the pre-built model if it exists and is not stale
+     * Resolvers are discovered again, so added or removed resolver classes make the artifact stale
+     *
+     * @param resolverDiscovery discovery of the resolvers documented by the model
+     * @return model or null when the artifact is missing, unreadable or stale
+     */
+    public static GraphQLDocModel load(GraphQLDocProperties properties, ResourcePatternResolver resourceResolver,
+                                       ResolverDiscovery resolverDiscovery) {
+        Resource resource = resourceResolver.getResource(properties.getModelLocation());
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStreamReader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            GraphQLDocModel model = GSON.fromJson(reader, GraphQLDocModel.class);
+            String fingerprint = fingerprint(properties, resourceResolver, resolverNames(resolverDiscovery.discover()), model.getSourceClasses());
+            if (fingerprint.equals(model.getFingerprint())) {
+                return model;
+            }
+            log.info("GraphQL documentation model {} is stale, it will be rebuilt", resource.getDescription());
+        } catch (IOException | JsonParseException e) {
+            log.warn("GraphQL documentation model {} could not be read, it will be rebuilt", resource.getDescription(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the model under the given output directory
+     *
+     * @return path of the written artifact
+     */
+    public static Path write(GraphQLDocModel model, Path outputDirectory) throws IOException {
+        Path target = outputDirectory.resolve(MODEL_PATH);
+        Files.createDirectories(target.getParent());
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            GSON.toJson(model, writer);
+        }
+        return target;
+    }
+
+    /**
+     * Returns size of the model when written as an artifact
+     *
+     * @return size in bytes
+     */
+    public static long size(GraphQLDocModel model) {
+        return GSON.toJson(model).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Computes the fingerprint of the model inputs.
+     * Schema files are hashed by content so the result does not depend on where they are loaded from.
+     *
+     * @param resolverNames discovered resolvers from {@link #resolverNames}
+     * @param classNames    resolver and schema classes the model was generated from
+     * @return hex encoded SHA-256 hash
+     */
+    public static String fingerprint(GraphQLDocProperties properties, ResourcePatternResolver resourceResolver,
+                                     List<String> resolverNames, Collection<String> classNames) throws IOException {
+        MessageDigest digest = sha256();
+        update(digest, FORMAT_VERSION);
+        update(digest, properties.getSchemaLocationPattern());
+        update(digest, properties.getPackageName());
+        update(digest, String.valueOf(properties.getDiscoveryMode()));
+        update(digest, String.valueOf(properties.getRecursionDepth()));
+        resolverNames.forEach(name -> update(digest, name));
+        List<String> schemaHashes = new ArrayList<>();
+        for (Resource resource : resourceResolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + properties.getSchemaLocationPattern())) {
+            try (InputStream inputStream = resource.getInputStream()) {
+                schemaHashes.add(HexFormat.of().formatHex(sha256().digest(inputStream.readAllBytes())));
+            }
+        }
+        schemaHashes.sort(null);
+        schemaHashes.forEach(hash -> update(digest, hash));
+        ClassLoader classLoader = resourceResolver.getClassLoader();
+        for (String className : classNames) {
+            update(digest, className);
+            try (InputStream inputStream = classLoader == null ? null : classLoader.getResourceAsStream(ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX)) {
+                digest.update(inputStream == null ? new byte[0] : inputStream.readAllBytes());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns discovered resolvers like QueryType:com.example.UserResolver in a stable order
+     *
+     * @param resolvers resolver classes grouped by their resolver annotation
+     * @return sorted resolver names
+     */
+    public static List<String> resolverNames(Map<Class<? extends Annotation>, Set<Class<?>>> resolvers) {
+        List<String> names = new ArrayList<>();
+        resolvers.forEach((annotation, classes) -> classes.forEach(clazz -> names.add(annotation.getSimpleName() + ":" + clazz.getName())));
+        names.sort(null);
+        return names;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
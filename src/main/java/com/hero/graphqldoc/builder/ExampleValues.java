@@ -0,0 +1,99 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import graphql.language.BooleanValue;
+import graphql.language.EnumValue;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Example values of scalar and enum types used in example requests and responses
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExampleValues {
+
+    private static final String JAVA = "java.";
+
+    /**
+     * Checks if given type is java type
+     *
+     * @param param class type
+     * @return true if java type
+     */
+    public static boolean isJava(Class<?> param) {
+        return param.isPrimitive() || param.getPackageName().startsWith(JAVA) || Enum.class.isAssignableFrom(param);
+    }
+
+    /**
+     * Returns example value for response object
+     *
+     * @return example value
+     */
+    public static Object objectExample(Class<?> field, String example) {
+        Object example1 = getAndReturnExample(field, example);
+        if (example1 != null) return example1;
+        return example != null ? example : "";
+    }
+
+    /**
+     * Returns example value for request object
+     * Numeric examples which are not numbers are written as string values
+     *
+     * @return example value literal
+     */
+    public static Value<?> literal(Class<?> field, String example) {
+        if (field.equals(boolean.class) || field.equals(Boolean.class)) {
+            return new BooleanValue(Boolean.parseBoolean(example != null ? example : "true"));
+        } else if (Enum.class.isAssignableFrom(field)) {
+            return new EnumValue(example != null && !example.isEmpty() ? example : field.getEnumConstants()[0].toString());
+        } else if (isNumber(field)) {
+            if (example == null || example.isEmpty()) {
+                return new IntValue(BigInteger.ONE);
+            }
+            try {
+                BigDecimal number = new BigDecimal(example);
+                return number.scale() > 0 ? new FloatValue(number) : new IntValue(number.toBigIntegerExact());
+            } catch (NumberFormatException | ArithmeticException e) {
+                return new StringValue(example);
+            }
+        }
+        return new StringValue(example != null ? example : "");
+    }
+
+    /**
+     * Checks element type and returns example value
+     * If not exists example, return default value
+     *
+     * @return example value
+     */
+    @Nullable
+    private static Object getAndReturnExample(Class<?> field, String example) {
+        if (field.equals(boolean.class) || field.equals(Boolean.class)) {
+            return Boolean.valueOf(example != null ? example : "true");
+        } else if (isNumber(field)) {
+            return example != null ? example : 1;
+        } else if (Enum.class.isAssignableFrom(field)) {
+            return example != null ? example : field.getEnumConstants()[0].toString();
+        }
+        return null;
+    }
+
+    private static boolean isNumber(Class<?> field) {
+        return Number.class.isAssignableFrom(field) || field.equals(int.class) || field.equals(double.class) ||
+                field.equals(long.class) || field.equals(float.class) || field.equals(short.class);
+    }
+
+}
@@ -0,0 +1,463 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.google.gson.stream.JsonWriter;
+import com.hero.graphqldoc.annotations.Schema;
+import com.hero.graphqldoc.annotations.SchemaType;
+import com.hero.graphqldoc.models.FieldDetails;
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLField;
+import com.hero.graphqldoc.parser.SchemaIndex;
+import graphql.language.ArrayValue;
+import graphql.language.EnumTypeDefinition;
+import graphql.language.InputObjectTypeDefinition;
+import graphql.language.InterfaceTypeDefinition;
+import graphql.language.ObjectField;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.ObjectValue;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.Type;
+import graphql.language.TypeDefinition;
+import graphql.language.TypeName;
+import graphql.language.UnionTypeDefinition;
+import graphql.language.Value;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.hero.graphqldoc.builder.ExampleValues.isJava;
+
+/**
+ * Graph of the Java classes of documented GraphQL types.
+ * Every class is visited once and its fields, field selections and example objects are cached, so types shared by
+ * many operations are not walked again. A type referencing itself is expanded at most {@code recursionDepth} times on one path,
+ * deeper references are left out of the examples. Selections and examples are cached by type and remaining depth,
+ * so types shared by many cyclic paths are expanded once per depth. Enum classes and classes of custom scalars are leaves, enums get
+ * a schema definition with their values.
+ */
+public class TypeGraph {
+
+    private final SchemaIndex schemaIndex;
+    private final int recursionDepth;
+    private final Map<String, GraphQLClassFields> objectTypeMap;
+    private final Map<String, String> graphQLToJavaMap;
+    private final Set<String> sourceClasses;
+    private final Map<Class<?>, List<TypeField>> nodes = new HashMap<>();
+    private final Map<FragmentKey, ResponseFragment> responseFragments = new HashMap<>();
+    private final Map<FragmentKey, ObjectValue> requestFragments = new HashMap<>();
+    private final Map<FragmentKey, ExampleFragment> examples = new HashMap<>();
+    private final Components responseComponents = new Components(this::responseReferences);
+    private final Components requestComponents = new Components(TypeGraph::requestReferences);
+    private final Set<Class<?>> enums = new HashSet<>();
+    private int expansions;
+
+    public TypeGraph(SchemaIndex schemaIndex, int recursionDepth, Map<String, GraphQLClassFields> objectTypeMap,
+                     Map<String, String> graphQLToJavaMap, Set<String> sourceClasses) {
+        this.schemaIndex = schemaIndex;
+        this.recursionDepth = Math.max(1, recursionDepth);
+        this.objectTypeMap = objectTypeMap;
+        this.graphQLToJavaMap = graphQLToJavaMap;
+        this.sourceClasses = sourceClasses;
+    }
+
+    /**
+     * Visits given class and all classes reachable from its schema fields once
+     * Creates schema definitions of visited classes and GraphQL definition to Java object mapping
+     *
+     * @param type        Java class of the GraphQL type
+     * @param graphQLName GraphQL type name
+     */
+    public void visit(Class<?> type, String graphQLName) {
+        if (nodes.containsKey(type)) {
+            return;
+        }
+        String name = type.getSimpleName();
+        graphQLToJavaMap.putIfAbsent(name, graphQLName);
+        List<TypeField> fields = new ArrayList<>();
+        nodes.put(type, fields);
+        for (Class<?> current = type; current != null && !isJava(current); current = current.getSuperclass()) {
+            sourceClasses.add(current.getName());
+        }
+        TypeIntrospection.ClassDetails details = TypeIntrospection.of(type);
+        GraphQLClassFields classFields = new GraphQLClassFields();
+        classFields.setName(name);
+        Schema schema = details.getSchema();
+        if (schema != null) {
+            classFields.setDescription(schema.description());
+        }
+        TypeDefinition<?> definition = schemaIndex.getType(graphQLToJavaMap.get(name));
+        classFields.setKind(kind(definition));
+        classFields.getMembers().addAll(schemaIndex.getUnionMembers(graphQLToJavaMap.get(name)));
+        if (definition instanceof ObjectTypeDefinition objectDefinition) {
+            objectDefinition.getImplements().stream().map(TypeGraph::typeName).forEach(classFields.getInterfaces()::add);
+        }
+        objectTypeMap.putIfAbsent(name, classFields);
+        for (FieldDetails fieldDefinition : schemaIndex.getFields(graphQLToJavaMap.get(name))) {
+            TypeIntrospection.ClassField classField = details.getField(fieldDefinition.getName());
+            if (classField == null) {
+                throw new IllegalStateException("Field " + fieldDefinition.getName() + " of GraphQL type is not found in " + type.getName());
+            }
+            Field field = classField.field();
+            boolean list = classField.type().list();
+            Class<?> elementType = classField.type().elementType();
+            String typeName = fieldDefinition.getType().getName();
+            boolean leaf = isJava(elementType) || schemaIndex.isScalar(typeName);
+            GraphQLField fieldObject = new GraphQLField();
+            fieldObject.setName(field.getName());
+            fieldObject.setListType(fieldDefinition.isList());
+            fieldObject.setNotNull(fieldDefinition.isNotNull());
+            fieldObject.setJavaType(leaf && !visitEnum(elementType, typeName));
+            fieldObject.setType(typeName);
+            SchemaType schemaType = classField.schemaType();
+            if (schemaType != null) {
+                fieldObject.setDescription(schemaType.description());
+                fieldObject.setExample(schemaType.example());
+                fieldObject.setRequired(schemaType.required());
+            }
+            classFields.getFields().add(fieldObject);
+            fields.add(new TypeField(field, elementType, list, leaf, schemaType == null ? "" : schemaType.example()));
+            if (!leaf) {
+                visit(elementType, typeName);
+            }
+        }
+    }
+
+    /**
+     * Creates the schema definition of an enum class with the values of its GraphQL type
+     *
+     * @param type        Java class of the GraphQL type
+     * @param graphQLName GraphQL type name
+     * @return true if the GraphQL type is an enum
+     */
+    public boolean visitEnum(Class<?> type, String graphQLName) {
+        List<String> values = schemaIndex.getEnumValues(graphQLName);
+        if (!type.isEnum() || values.isEmpty()) {
+            return false;
+        }
+        if (enums.add(type)) {
+            String name = type.getSimpleName();
+            graphQLToJavaMap.putIfAbsent(name, graphQLName);
+            GraphQLClassFields classFields = new GraphQLClassFields();
+            classFields.setName(name);
+            classFields.setKind(kind(schemaIndex.getType(graphQLName)));
+            classFields.getValues().addAll(values);
+            objectTypeMap.putIfAbsent(name, classFields);
+        }
+        return true;
+    }
+
+    /**
+     * Returns field selection of a visited class
+     *
+     * @param type visited class
+     * @return response fragment
+     */
+    public ResponseFragment response(Class<?> type) {
+        return response(type, recursionDepth);
+    }
+
+    /**
+     * Writes example response object of a visited class
+     * Fields are written in schema order and recursive references are cut like in the field selection
+     *
+     * @param writer json writer
+     * @param type   visited class
+     */
+    public void writeExample(JsonWriter writer, Class<?> type) throws IOException {
+        write(writer, example(type, recursionDepth));
+    }
+
+    /**
+     * Writes example value of a scalar or enum type
+     *
+     * @param writer json writer
+     * @param value  example value
+     */
+    public static void writeValue(JsonWriter writer, Object value) throws IOException {
+        if (value instanceof Boolean bool) {
+            writer.value(bool);
+        } else if (value instanceof Number number) {
+            writer.value(number);
+        } else {
+            writer.value(String.valueOf(value));
+        }
+    }
+
+    /**
+     * Returns example input object of given class like {id: 1, name: "x"}
+     * Uses all fields of the class and its superclasses
+     *
+     * @param type input class
+     * @return example input object
+     */
+    public ObjectValue request(Class<?> type) {
+        return requestFragment(type, recursionDepth);
+    }
+
+    /**
+     * Returns given visited class and all classes reachable from its schema fields
+     * Enum classes with a schema definition are included, other leaves are not
+     *
+     * @param type visited class or enum class
+     * @return reachable classes
+     */
+    public Set<Class<?>> reachable(Class<?> type) {
+        Set<Class<?>> reachable = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>(List.of(type));
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.pop();
+            if ((nodes.containsKey(current) || enums.contains(current)) && reachable.add(current)) {
+                for (TypeField typeField : nodes.getOrDefault(current, List.of())) {
+                    pending.push(typeField.elementType());
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Returns number of fragments and example objects built so far, each is built once for a type and remaining depth
+     */
+    int expansions() {
+        return expansions;
+    }
+
+    private ResponseFragment response(Class<?> type, int depth) {
+        FragmentKey key = new FragmentKey(type, depth);
+        ResponseFragment fragment = responseFragments.get(key);
+        if (fragment != null) {
+            return fragment;
+        }
+        expansions++;
+        List<Selection> selections = new ArrayList<>();
+        for (TypeField typeField : nodes.getOrDefault(type, List.of())) {
+            String name = typeField.field().getName();
+            if (typeField.leaf()) {
+                selections.add(new graphql.language.Field(name));
+                continue;
+            }
+            int childDepth = childDepth(type, typeField.elementType(), depth, responseComponents);
+            if (childDepth > 0) {
+                ResponseFragment child = response(typeField.elementType(), childDepth);
+                if (!child.selection().getSelections().isEmpty()) {
+                    selections.add(new graphql.language.Field(name, child.selection()));
+                }
+            }
+        }
+        fragment = new ResponseFragment(new SelectionSet(selections));
+        responseFragments.put(key, fragment);
+        return fragment;
+    }
+
+    /**
+     * Returns example object of a visited class
+     */
+    private ExampleFragment example(Class<?> type, int depth) {
+        FragmentKey key = new FragmentKey(type, depth);
+        ExampleFragment fragment = examples.get(key);
+        if (fragment != null) {
+            return fragment;
+        }
+        expansions++;
+        List<ExampleField> fields = new ArrayList<>();
+        for (TypeField typeField : nodes.getOrDefault(type, List.of())) {
+            if (typeField.leaf()) {
+                fields.add(new ExampleField(typeField.field().getName(), ExampleValues.objectExample(
+                        typeField.list() ? typeField.field().getType() : typeField.elementType(), typeField.example()), null));
+            } else {
+                int childDepth = childDepth(type, typeField.elementType(), depth, responseComponents);
+                if (childDepth > 0) {
+                    fields.add(new ExampleField(typeField.field().getName(), null, example(typeField.elementType(), childDepth)));
+                }
+            }
+        }
+        fragment = new ExampleFragment(fields);
+        examples.put(key, fragment);
+        return fragment;
+    }
+
+    /**
+     * Writes a cached example object field by field, so no JSON tree is built for the response
+     */
+    private static void write(JsonWriter writer, ExampleFragment fragment) throws IOException {
+        writer.beginObject();
+        for (ExampleField field : fragment.fields()) {
+            writer.name(field.name());
+            if (field.child() != null) {
+                write(writer, field.child());
+            } else {
+                writeValue(writer, field.value());
+            }
+        }
+        writer.endObject();
+    }
+
+    private ObjectValue requestFragment(Class<?> type, int depth) {
+        FragmentKey key = new FragmentKey(type, depth);
+        ObjectValue fragment = requestFragments.get(key);
+        if (fragment != null) {
+            return fragment;
+        }
+        expansions++;
+        List<ObjectField> objectFields = new ArrayList<>();
+        for (TypeIntrospection.ClassField classField : TypeIntrospection.of(type).getFields()) {
+            boolean list = classField.type().list();
+            Class<?> elementType = classField.type().elementType();
+            Value<?> value;
+            if (isJava(elementType)) {
+                SchemaType schemaType = classField.schemaType();
+                value = ExampleValues.literal(elementType, schemaType != null ? schemaType.example() : null);
+            } else {
+                int childDepth = childDepth(type, elementType, depth, requestComponents);
+                if (childDepth == 0) {
+                    continue;
+                }
+                value = requestFragment(elementType, childDepth);
+            }
+            objectFields.add(new ObjectField(classField.field().getName(), list ? new ArrayValue(List.of(value)) : value));
+        }
+        fragment = new ObjectValue(objectFields);
+        requestFragments.put(key, fragment);
+        return fragment;
+    }
+
+    /**
+     * Returns remaining depth of a referenced class
+     * A reference inside a cycle of classes to a class whose name does not sort after the referencing class is
+     * a recursion and uses up one level, other references start again with the full depth. Every cycle has such
+     * a reference, so expansion always ends, and the depth only depends on the two classes, not on the path.
+     */
+    private int childDepth(Class<?> type, Class<?> child, int depth, Components components) {
+        if (components.of(type) != components.of(child)) {
+            return recursionDepth;
+        }
+        return child.getName().compareTo(type.getName()) <= 0 ? depth - 1 : depth;
+    }
+
+    private List<Class<?>> responseReferences(Class<?> type) {
+        return nodes.getOrDefault(type, List.of()).stream().filter(typeField -> !typeField.leaf()).<Class<?>>map(TypeField::elementType).toList();
+    }
+
+    private static List<Class<?>> requestReferences(Class<?> type) {
+        return TypeIntrospection.of(type).getFields().stream().<Class<?>>map(classField -> classField.type().elementType())
+                .filter(elementType -> !isJava(elementType)).toList();
+    }
+
+    /**
+     * Returns the keyword of the type definition like type, input or enum
+     */
+    private static String kind(TypeDefinition<?> definition) {
+        if (definition instanceof InputObjectTypeDefinition) {
+            return "input";
+        } else if (definition instanceof InterfaceTypeDefinition) {
+            return "interface";
+        } else if (definition instanceof EnumTypeDefinition) {
+            return "enum";
+        } else if (definition instanceof UnionTypeDefinition) {
+            return "union";
+        }
+        return "type";
+    }
+
+    private static String typeName(Type<?> type) {
+        return type instanceof TypeName typeName ? typeName.getName() : type.toString();
+    }
+
+    /**
+     * Field selection of a type
+     *
+     * @param selection selected fields
+     */
+    public record ResponseFragment(SelectionSet selection) {
+    }
+
+    private record FragmentKey(Class<?> type, int depth) {
+    }
+
+    private record ExampleFragment(List<ExampleField> fields) {
+    }
+
+    /**
+     * Field of an example object with a scalar or enum example value, or a child object
+     */
+    private record ExampleField(String name, Object value, ExampleFragment child) {
+    }
+
+    private record TypeField(Field field, Class<?> elementType, boolean list, boolean leaf, String example) {
+    }
+
+    /**
+     * Strongly connected components of the class references, found with Tarjan's algorithm on first use of a class
+     * Classes in the same component reference each other through a cycle. A class is only looked up after it was
+     * visited, when all classes it reaches are known, so the components of found classes never change.
+     */
+    private static class Components {
+
+        private final Function<Class<?>, List<Class<?>>> references;
+        private final Map<Class<?>, Class<?>> roots = new HashMap<>();
+        private final Map<Class<?>, Integer> indexes = new HashMap<>();
+        private final Map<Class<?>, Integer> lowLinks = new HashMap<>();
+        private final Deque<Class<?>> stack = new ArrayDeque<>();
+
+        Components(Function<Class<?>, List<Class<?>>> references) {
+            this.references = references;
+        }
+
+        /**
+         * Returns the first class found of the component of given class, which stands for the whole component
+         */
+        Class<?> of(Class<?> type) {
+            Class<?> root = roots.get(type);
+            if (root == null) {
+                connect(type);
+                indexes.clear();
+                lowLinks.clear();
+                root = roots.get(type);
+            }
+            return root;
+        }
+
+        private void connect(Class<?> type) {
+            int index = indexes.size();
+            indexes.put(type, index);
+            lowLinks.put(type, index);
+            stack.push(type);
+            for (Class<?> reference : references.apply(type)) {
+                if (roots.containsKey(reference)) {
+                    continue;
+                }
+                if (!indexes.containsKey(reference)) {
+                    connect(reference);
+                    lowLinks.merge(type, lowLinks.get(reference), Math::min);
+                } else {
+                    // found in this search without a component yet, so it is still on the stack
+                    lowLinks.merge(type, indexes.get(reference), Math::min);
+                }
+            }
+            if (lowLinks.get(type) == index) {
+                Class<?> member;
+                do {
+                    member = stack.pop();
+                    roots.put(member, type);
+                } while (member != type);
+            }
+        }
+
+    }
+
+}
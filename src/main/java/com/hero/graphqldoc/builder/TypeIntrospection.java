@@ -0,0 +1,210 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.hero.graphqldoc.annotations.Schema;
+import com.hero.graphqldoc.annotations.SchemaType;
+import graphql.execution.DataFetcherResult;
+import io.leangen.geantyref.GenericTypeReflector;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.reactivestreams.Publisher;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import static com.hero.graphqldoc.builder.ExampleValues.isJava;
+
+/**
+ * Reflection details of documented classes, resolved once per class and shared by all builds.
+ * Field and return types are resolved against the class they are read from, so type variables of generic superclasses
+ * are replaced by their actual types. Wrapper types are unwrapped to the type GraphQL serializes: collections, arrays,
+ * Optional, futures, publishers and DataFetcherResult, also when nested like List&lt;Optional&lt;X&gt;&gt;.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TypeIntrospection {
+
+    private static final ClassValue<ClassDetails> CLASSES = new ClassValue<>() {
+        @Override
+        protected ClassDetails computeValue(Class<?> type) {
+            return new ClassDetails(type);
+        }
+    };
+
+    /**
+     * Returns reflection details of the class, details are read on first call
+     *
+     * @param type class
+     * @return class details
+     */
+    public static ClassDetails of(Class<?> type) {
+        return CLASSES.get(type);
+    }
+
+    /**
+     * Returns the GraphQL type of the method result declared in the given class
+     *
+     * @param method method
+     * @param owner  class the method is called on
+     * @return unwrapped result type
+     */
+    public static ResolvedType returnType(Method method, Class<?> owner) {
+        return resolve(GenericTypeReflector.getReturnType(method, owner));
+    }
+
+    /**
+     * Returns the GraphQL types of the method parameters declared in the given class
+     *
+     * @param method method
+     * @param owner  class the method is called on
+     * @return unwrapped parameter types in declaration order
+     */
+    public static List<ResolvedType> parameterTypes(Method method, Class<?> owner) {
+        List<ResolvedType> types = new ArrayList<>();
+        for (Type type : GenericTypeReflector.getParameterTypes(method, owner)) {
+            types.add(resolve(type));
+        }
+        return types;
+    }
+
+    /**
+     * Unwraps all wrapper types around the type
+     *
+     * @param type generic type
+     * @return element class and whether a collection or array was unwrapped
+     */
+    public static ResolvedType resolve(Type type) {
+        boolean list = false;
+        Type current = type;
+        while (true) {
+            Class<?> raw = GenericTypeReflector.erase(current);
+            Type next;
+            if (raw.isArray()) {
+                list = true;
+                next = GenericTypeReflector.getArrayComponentType(current);
+            } else if (Collection.class.isAssignableFrom(raw) || Iterable.class.equals(raw)) {
+                list = true;
+                next = GenericTypeReflector.getTypeParameter(current, Iterable.class.getTypeParameters()[0]);
+            } else if (Optional.class.equals(raw)) {
+                next = GenericTypeReflector.getTypeParameter(current, Optional.class.getTypeParameters()[0]);
+            } else if (CompletionStage.class.isAssignableFrom(raw)) {
+                next = GenericTypeReflector.getTypeParameter(current, CompletionStage.class.getTypeParameters()[0]);
+            } else if (Future.class.isAssignableFrom(raw)) {
+                next = GenericTypeReflector.getTypeParameter(current, Future.class.getTypeParameters()[0]);
+            } else if (Publisher.class.isAssignableFrom(raw)) {
+                next = GenericTypeReflector.getTypeParameter(current, Publisher.class.getTypeParameters()[0]);
+            } else if (DataFetcherResult.class.isAssignableFrom(raw)) {
+                next = GenericTypeReflector.getTypeParameter(current, DataFetcherResult.class.getTypeParameters()[0]);
+            } else {
+                return new ResolvedType(raw, list);
+            }
+            if (next == null) {
+                return new ResolvedType(Object.class, list);
+            }
+            current = next;
+        }
+    }
+
+    /**
+     * Reflection details of a class
+     */
+    public static final class ClassDetails {
+
+        private final Schema schema;
+        private final List<ClassField> fields = new ArrayList<>();
+        private final Map<String, ClassField> fieldsByName = new HashMap<>();
+        private final Method[] methods;
+
+        private ClassDetails(Class<?> type) {
+            schema = type.getAnnotation(Schema.class);
+            methods = type.getDeclaredMethods();
+            for (Class<?> current = type; current != null && !isJava(current); current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    ClassField details = new ClassField(field, resolve(GenericTypeReflector.getFieldType(field, type)),
+                            field.getAnnotation(SchemaType.class));
+                    fieldsByName.putIfAbsent(field.getName(), details);
+                    fields.add(details);
+                }
+            }
+        }
+
+        /**
+         * @return schema annotation of the class or null
+         */
+        public Schema getSchema() {
+            return schema;
+        }
+
+        /**
+         * @return instance fields of the class and its superclasses which are not java classes, subclass fields first
+         */
+        public List<ClassField> getFields() {
+            return fields;
+        }
+
+        /**
+         * Returns the field with the given name, a field of the class hides fields of its superclasses
+         *
+         * @param name field name
+         * @return field or null when there is no such field
+         */
+        public ClassField getField(String name) {
+            return fieldsByName.get(name);
+        }
+
+        /**
+         * Returns methods declared by the class with the given annotation
+         *
+         * @param annotation annotation type
+         * @return annotated methods
+         */
+        public List<Method> getAnnotatedMethods(Class<? extends Annotation> annotation) {
+            List<Method> annotated = new ArrayList<>();
+            for (Method method : methods) {
+                if (method.isAnnotationPresent(annotation)) {
+                    annotated.add(method);
+                }
+            }
+            return annotated;
+        }
+
+    }
+
+    /**
+     * Reflection details of a field
+     *
+     * @param field      field
+     * @param type       unwrapped field type
+     * @param schemaType schema type annotation of the field or null
+     */
+    public record ClassField(Field field, ResolvedType type, SchemaType schemaType) {
+    }
+
+    /**
+     * Type GraphQL serializes for a Java type
+     *
+     * @param elementType class of the value or of the list elements
+     * @param list        true if the Java type is a collection, an iterable or an array
+     */
+    public record ResolvedType(Class<?> elementType, boolean list) {
+    }
+
+}
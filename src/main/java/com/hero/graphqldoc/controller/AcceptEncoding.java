@@ -0,0 +1,39 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.controller;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Accept-Encoding header checks shared by the servlet and reactive documentation endpoints
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AcceptEncoding {
+
+    public static final String GZIP = "gzip";
+
+    /**
+     * Checks if client accepts gzip encoded responses
+     *
+     * @param acceptEncoding Accept-Encoding header value
+     * @return true if gzip is accepted
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.controller;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Resource reading a byte buffer, each stream reads an independent view of the buffer
+ */
+class ByteBufferResource extends AbstractResource {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferResource(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        ByteBuffer view = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(length, view.remaining());
+                view.get(bytes, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    @Override
+    public long contentLength() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Byte buffer resource [" + buffer.remaining() + " bytes]";
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.controller;
+
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.GraphQLObject;
+import com.hero.graphqldoc.models.GroupResponse;
+import com.hero.graphqldoc.models.NavigationItem;
+import com.hero.graphqldoc.models.OperationStatistics;
+import com.hero.graphqldoc.models.PagedResponse;
+import com.hero.graphqldoc.models.SearchResult;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import com.hero.graphqldoc.service.DocGroup;
+import com.hero.graphqldoc.service.DocModelIndex;
+import com.hero.graphqldoc.service.DocSearchIndex;
+import com.hero.graphqldoc.service.DocSnapshot;
+import com.hero.graphqldoc.service.OperationStats;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Versioned JSON API over the documentation model.
+ * The documentation page uses it to load operation and type sections on demand.
+ */
+@RestController
+@RequestMapping("${graphql.doc.endpoint:/document}/api/v1")
+public class GraphQLDocApiController {
+
+    static final String DEFAULT_PAGE_SIZE = "20";
+    private final DocGroup docGroup;
+    private final GraphQLDocProperties properties;
+    private final OperationStats stats;
+
+    /**
+     * @param stats statistics of served operations or null when they are not recorded
+     */
+    public GraphQLDocApiController(DocGroup docGroup, GraphQLDocProperties properties, OperationStats stats) {
+        this.docGroup = docGroup;
+        this.properties = properties;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns resolver groups with their operation names and schema type names
+     *
+     * @return navigation tree
+     */
+    @GetMapping("/navigation")
+    public List<NavigationItem> getNavigation() {
+        return getIndex().getNavigation();
+    }
+
+    /**
+     * Returns resolver group with a page of its operations
+     *
+     * @param key group key
+     * @return group details
+     */
+    @GetMapping("/groups/{key}")
+    public GroupResponse getGroup(@PathVariable("key") String key, @RequestParam(value = "page", defaultValue = "0") int page,
+                                  @RequestParam(value = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        GraphQLObject group = getIndex().getGroup(key);
+        if (group == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found: " + key);
+        }
+        return new GroupResponse(group.getKey(), group.getDescription(), page(group.getObjects(), page, size));
+    }
+
+    /**
+     * Returns a single operation
+     *
+     * @param type query, mutation or subscription
+     * @param name GraphQL operation name
+     * @return operation details
+     */
+    @GetMapping("/operations/{type}/{name}")
+    public GraphQLMethodObject getOperation(@PathVariable("type") String type, @PathVariable("name") String name) {
+        GraphQLMethodObject operation = getIndex().getOperation(type.toUpperCase(Locale.ROOT), name);
+        if (operation == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Operation not found: " + type + " " + name);
+        }
+        return operation;
+    }
+
+    /**
+     * Returns latency and call statistics of a single operation
+     *
+     * @param type query, mutation or subscription
+     * @param name GraphQL operation name
+     * @return statistics of the current and the previous window, zero when the operation was not called
+     */
+    @GetMapping("/operations/{type}/{name}/stats")
+    public OperationStatistics getOperationStats(@PathVariable("type") String type, @PathVariable("name") String name) {
+        OperationStats operationStats = getStats();
+        GraphQLMethodObject operation = getOperation(type, name);
+        OperationStatistics statistics = operationStats.get(DocModelIndex.key(operation.getOperationType(), operation.getName()));
+        return statistics != null ? statistics : new OperationStatistics(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Returns latency and call statistics of the documented operations which were called
+     *
+     * @return statistics by operation key like QUERY:getUser
+     */
+    @GetMapping("/stats")
+    public Map<String, OperationStatistics> getAllStats() {
+        OperationStats operationStats = getStats();
+        Map<String, OperationStatistics> all = new LinkedHashMap<>();
+        for (GraphQLMethodObject operation : getIndex().getOperations()) {
+            String key = DocModelIndex.key(operation.getOperationType(), operation.getName());
+            OperationStatistics statistics = operationStats.get(key);
+            if (statistics != null) {
+                all.put(key, statistics);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Returns a page of schema type names with their kinds like type, input or enum
+     *
+     * @return type names
+     */
+    @GetMapping("/types")
+    public PagedResponse<NavigationItem> getTypes(@RequestParam(value = "page", defaultValue = "0") int page,
+                                                  @RequestParam(value = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return page(getIndex().getTypes(), page, size);
+    }
+
+    /**
+     * Returns a single schema type
+     *
+     * @param name GraphQL type name
+     * @return type fields, enum values, union members and implemented interfaces
+     */
+    @GetMapping("/types/{name}")
+    public GraphQLClassFields getType(@PathVariable("name") String name) {
+        GraphQLClassFields type = getIndex().getType(name);
+        if (type == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Type not found: " + name);
+        }
+        return type;
+    }
+
+    /**
+     * Searches operations, types and fields by name and description
+     * Matches prefixes, camelCase tokens of names and words with typos
+     *
+     * @param q     search words
+     * @param limit maximum number of results
+     * @return results ordered by relevance, 404 when search is not enabled
+     */
+    @GetMapping("/search")
+    public List<SearchResult> search(@RequestParam("q") String q, @RequestParam(value = "limit", defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        if (limit < 1 || limit > properties.getMaxPageSize()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + properties.getMaxPageSize());
+        }
+        DocSearchIndex searchIndex = getSnapshot().getSearchIndex();
+        if (searchIndex == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Search is not enabled");
+        }
+        return searchIndex.search(q, limit);
+    }
+
+    /**
+     * Validates paging parameters and returns requested page
+     */
+    private <T> PagedResponse<T> page(List<T> items, int page, int size) {
+        if (page < 0 || size < 1 || size > properties.getMaxPageSize()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must be positive and size must be between 1 and " + properties.getMaxPageSize());
+        }
+        return PagedResponse.of(items, page, size);
+    }
+
+    /**
+     * Returns operation statistics or 404 when they are not recorded
+     */
+    private OperationStats getStats() {
+        if (stats == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Operation statistics are not enabled");
+        }
+        return stats;
+    }
+
+    /**
+     * Returns model index or 503 while documentation is building
+     */
+    private DocModelIndex getIndex() {
+        return getSnapshot().getIndex();
+    }
+
+    /**
+     * Returns ready snapshot or 503 while documentation is building
+     */
+    private DocSnapshot getSnapshot() {
+        DocSnapshot snapshot = docGroup.getSnapshot();
+        if (snapshot.getIndex() == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Documentation is " + snapshot.getState());
+        }
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.controller;
+
+import com.hero.graphqldoc.enums.BuildState;
+import com.hero.graphqldoc.models.RenderedPage;
+import com.hero.graphqldoc.service.DocAssetCache;
+import com.hero.graphqldoc.service.DocBundle;
+import com.hero.graphqldoc.service.DocGroup;
+import com.hero.graphqldoc.service.DocMetrics;
+import com.hero.graphqldoc.service.DocPageRenderer;
+import com.hero.graphqldoc.service.DocSnapshot;
+import com.hero.graphqldoc.service.OperationStats;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Serves the documentation page, JSON API and assets of a documentation group on reactive web applications.
+ * The rendered page and assets are kept as bytes and written as data buffers wrapping them without copying.
+ * Rendering and reading assets block, so they run on the bounded elastic scheduler, never on the event loop.
+ */
+public class GraphQLDocHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private static final String ASSETS_PATH = "/assets/";
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+    private final DocGroup docGroup;
+    private final DocPageRenderer pageRenderer;
+    private final DocAssetCache assetCache;
+    private final GraphQLDocApiController api;
+    private final DocMetrics metrics;
+    private final String endpoint;
+
+    public GraphQLDocHandler(DocGroup docGroup, DocPageRenderer pageRenderer, DocAssetCache assetCache, DocMetrics metrics,
+                             OperationStats stats) {
+        this.docGroup = docGroup;
+        this.pageRenderer = pageRenderer;
+        this.assetCache = assetCache;
+        this.api = new GraphQLDocApiController(docGroup, docGroup.getProperties(), stats);
+        this.metrics = metrics;
+        this.endpoint = docGroup.getProperties().getEndpoint();
+    }
+
+    /**
+     * Returns routes of the page, the assets and the JSON API under the endpoint of the group
+     *
+     * @return router function
+     */
+    public RouterFunction<ServerResponse> routes() {
+        String apiPath = endpoint + "/api/v1";
+        return RouterFunctions.route()
+                .GET(endpoint, this::getPage)
+                .GET(endpoint + ASSETS_PATH + "**", this::getAsset)
+                .GET(apiPath + "/navigation", request -> json(api::getNavigation))
+                .GET(apiPath + "/groups/{key}", request -> json(() -> api.getGroup(request.pathVariable("key"),
+                        intParam(request, "page", "0"), intParam(request, "size", GraphQLDocApiController.DEFAULT_PAGE_SIZE))))
+                .GET(apiPath + "/operations/{type}/{name}/stats", request -> json(() -> api.getOperationStats(
+                        request.pathVariable("type"), request.pathVariable("name"))))
+                .GET(apiPath + "/operations/{type}/{name}", request -> json(() -> api.getOperation(
+                        request.pathVariable("type"), request.pathVariable("name"))))
+                .GET(apiPath + "/stats", request -> json(api::getAllStats))
+                .GET(apiPath + "/types", request -> json(() -> api.getTypes(intParam(request, "page", "0"),
+                        intParam(request, "size", GraphQLDocApiController.DEFAULT_PAGE_SIZE))))
+                .GET(apiPath + "/types/{name}", request -> json(() -> api.getType(request.pathVariable("name"))))
+                .GET(apiPath + "/search", request -> json(() -> api.search(request.queryParam("q").orElseThrow(() ->
+                        new ResponseStatusException(HttpStatus.BAD_REQUEST, "Query is required")),
+                        intParam(request, "limit", GraphQLDocApiController.DEFAULT_PAGE_SIZE))))
+                .build();
+    }
+
+    /**
+     * Returns the pre-rendered documentation page
+     * Returns building page with 503 until the documentation model is ready
+     */
+    private Mono<ServerResponse> getPage(ServerRequest request) {
+        DocSnapshot snapshot = docGroup.getSnapshot();
+        if (snapshot.getState() != BuildState.READY) {
+            return Mono.fromCallable(() -> pageRenderer.renderBuildingPage(snapshot.getState()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(body -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                            .cacheControl(CacheControl.noStore())
+                            .contentType(TEXT_HTML_UTF8)
+                            .body(BodyInserters.fromDataBuffers(wrap(body))));
+        }
+        boolean rendered = snapshot.isPageRendered();
+        metrics.pageCache(rendered);
+        String bundleDirectory = docGroup.getProperties().getBundleDirectory();
+        if (StringUtils.hasText(bundleDirectory)) {
+            return getBundledPage(request, snapshot, rendered, Path.of(bundleDirectory));
+        }
+        Mono<RenderedPage> page = rendered ? Mono.just(snapshot.getPage(pageRenderer)) :
+                Mono.fromCallable(() -> snapshot.getPage(pageRenderer)).subscribeOn(Schedulers.boundedElastic());
+        return page.flatMap(renderedPage -> {
+            if (isNotModified(request, renderedPage.getEtag())) {
+                metrics.served(DocMetrics.PAGE, true, 0);
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(renderedPage.getEtag()).cacheControl(CACHE_CONTROL).build();
+            }
+            boolean gzip = AcceptEncoding.acceptsGzip(header(request, HttpHeaders.ACCEPT_ENCODING));
+            byte[] body = gzip ? renderedPage.getGzipBody() : renderedPage.getBody();
+            metrics.served(DocMetrics.PAGE, false, body.length);
+            ServerResponse.BodyBuilder builder = ServerResponse.ok()
+                    .eTag(renderedPage.getEtag())
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(TEXT_HTML_UTF8);
+            if (gzip) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+            }
+            return builder.body(BodyInserters.fromDataBuffers(wrap(body)));
+        });
+    }
+
+    /**
+     * Returns the pre-rendered documentation page from its memory-mapped bundle
+     * The mapped file is wrapped into a data buffer, the page is not copied to the heap
+     */
+    private Mono<ServerResponse> getBundledPage(ServerRequest request, DocSnapshot snapshot, boolean rendered, Path directory) {
+        Mono<DocBundle> bundle = Mono.fromCallable(() -> snapshot.getBundle(pageRenderer, directory));
+        return (rendered ? bundle : bundle.subscribeOn(Schedulers.boundedElastic())).flatMap(docBundle -> {
+            if (isNotModified(request, docBundle.getEtag())) {
+                metrics.served(DocMetrics.PAGE, true, 0);
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(docBundle.getEtag()).cacheControl(CACHE_CONTROL).build();
+            }
+            boolean gzip = AcceptEncoding.acceptsGzip(header(request, HttpHeaders.ACCEPT_ENCODING));
+            ByteBuffer body = gzip ? docBundle.getGzipBody() : docBundle.getBody();
+            metrics.served(DocMetrics.PAGE, false, body.remaining());
+            ServerResponse.BodyBuilder builder = ServerResponse.ok()
+                    .eTag(docBundle.getEtag())
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(TEXT_HTML_UTF8);
+            if (gzip) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+            }
+            return builder.body(BodyInserters.fromDataBuffers(Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(body))));
+        });
+    }
+
+    /**
+     * Returns an asset, precompressed when the client accepts gzip
+     * Asset urls carry a content hash, so assets are cached as immutable for a year
+     */
+    private Mono<ServerResponse> getAsset(ServerRequest request) {
+        String path = request.path().substring(endpoint.length() + ASSETS_PATH.length());
+        Mono<DocAssetCache.Asset> asset = assetCache.isLoaded(path) ? Mono.justOrEmpty(assetCache.get(path)) :
+                Mono.fromCallable(() -> assetCache.get(path)).subscribeOn(Schedulers.boundedElastic());
+        return asset.flatMap(content -> {
+            boolean gzip = content.gzipBody() != null && AcceptEncoding.acceptsGzip(header(request, HttpHeaders.ACCEPT_ENCODING));
+            byte[] body = gzip ? content.gzipBody() : content.body();
+            metrics.served(DocMetrics.ASSET, false, body.length);
+            ServerResponse.BodyBuilder builder = ServerResponse.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(content.mediaType());
+            if (gzip) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+            }
+            return builder.body(BodyInserters.fromDataBuffers(wrap(body)));
+        }).switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * Answers with the value of the JSON API, errors are answered by the error handler of the application
+     */
+    private static Mono<ServerResponse> json(Supplier<Object> value) {
+        return Mono.fromSupplier(value).flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body));
+    }
+
+    private static int intParam(ServerRequest request, String name, String defaultValue) {
+        String value = request.queryParam(name).orElse(defaultValue);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Checks If-None-Match header against the strong etag of the page
+     */
+    private static boolean isNotModified(ServerRequest request, String etag) {
+        String ifNoneMatch = header(request, HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String header(ServerRequest request, String name) {
+        List<String> values = request.headers().header(name);
+        return values.isEmpty() ? null : String.join(",", values);
+    }
+
+    /**
+     * Wraps bytes into a data buffer when the response is written, the bytes are not copied
+     */
+    private static Mono<DataBuffer> wrap(byte[] body) {
+        return Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(body));
+    }
+
+}
@@ -7,11 +7,23 @@
 package com.hero.graphqldoc.core;
 
 import com.hero.graphqldoc.controller.GraphQLController;
+import com.hero.graphqldoc.controller.GraphQLDocApiController;
 import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import com.hero.graphqldoc.service.DocAssets;
+import com.hero.graphqldoc.service.DocGroup;
+import com.hero.graphqldoc.service.DocMetrics;
+import com.hero.graphqldoc.service.DocPageRenderer;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import com.hero.graphqldoc.service.OperationStats;
 import graphql.kickstart.autoconfigure.tools.GraphQLJavaToolsAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,18 +31,27 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplicat
 import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.spring5.templateresolver.SpringResourceTemplateResolver;
 
+import javax.servlet.ServletContext;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
-@ConditionalOnWebApplication
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ConditionalOnClass(DispatcherServlet.class)
-@AutoConfigureAfter({WebMvcAutoConfiguration.class, WebFluxAutoConfiguration.class, GraphQLJavaToolsAutoConfiguration.class})
+@AutoConfigureAfter(value = {WebMvcAutoConfiguration.class, WebFluxAutoConfiguration.class, GraphQLJavaToolsAutoConfiguration.class},
+        name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @EnableConfigurationProperties(GraphQLDocProperties.class)
 @AutoConfigureOrder(Integer.MAX_VALUE)
 public class DocAutoConfig {
@@ -42,15 +63,47 @@ public class DocAutoConfig {
     private ApplicationContext applicationContext;
 
     @Bean
-    @ConditionalOnProperty(value = "graphql.doc.enabled", havingValue = "true")
+    @ConditionalOnProperty(value = "graphql.doc.enabled", havingValue = "true", matchIfMissing = true)
     @ConditionalOnMissingBean
-    GraphQLDocWebMvcConfig swaggerWebMvcConfigurer() {
-        return new GraphQLDocWebMvcConfig();
+    GraphQLDocWebMvcConfig swaggerWebMvcConfigurer(GraphQLDocProperties properties) {
+        return new GraphQLDocWebMvcConfig(endpoints(properties));
     }
 
     @Bean
-    GraphQLController graphqlDocController(GraphQLDocProperties properties) {
-        return new GraphQLController(properties);
+    GraphQLDocService graphqlDocService(GraphQLDocProperties properties) {
+        return new GraphQLDocService(properties, applicationContext);
+    }
+
+    /**
+     * Registers page and JSON API controllers of each group, each group renders its page with its own settings and assets
+     */
+    @Bean
+    GraphQLDocHandlerRegistrar graphqlDocHandlerRegistrar(GraphQLDocService docService,
+                                                          @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping requestMappingHandlerMapping,
+                                                          ObjectProvider<ServletContext> servletContext,
+                                                          ObjectProvider<ResourceUrlProvider> resourceUrlProvider,
+                                                          ObjectProvider<DocMetrics> metrics, ObjectProvider<OperationStats> operationStats) {
+        ServletContext context = servletContext.getIfAvailable();
+        ResourceUrlProvider resourceUrls = resourceUrlProvider.getIfAvailable();
+        DocMetrics docMetrics = metrics.getIfAvailable(() -> DocMetrics.NONE);
+        OperationStats stats = operationStats.getIfAvailable();
+        Map<String, List<Object>> controllers = new LinkedHashMap<>();
+        for (DocGroup group : docService.getGroups()) {
+            GraphQLDocProperties properties = group.getProperties();
+            DocAssets assets = new DocAssets(context == null ? "" : context.getContextPath(), properties.getEndpoint(),
+                    resourceUrls == null ? null : resourceUrls::getForLookupPath);
+            DocPageRenderer pageRenderer = new DocPageRenderer(templateEngine, properties, assets, docMetrics);
+            controllers.put(properties.getEndpoint(), List.of(new GraphQLController(group, pageRenderer, properties, docMetrics),
+                    new GraphQLDocApiController(group, properties, stats)));
+        }
+        return new GraphQLDocHandlerRegistrar(requestMappingHandlerMapping, controllers);
+    }
+
+    /**
+     * Returns endpoints of all groups from settings, so web configuration does not wait for the documentation build
+     */
+    static List<String> endpoints(GraphQLDocProperties properties) {
+        return properties.resolveGroups().values().stream().map(GraphQLDocProperties::getEndpoint).toList();
     }
 
     @Bean
@@ -62,6 +115,13 @@ public class DocAutoConfig {
     @ConditionalOnClass(TemplateEngine.class)
     @Bean
     public void templateResolverTemplatesPages() {
+        templateEngine.addTemplateResolver(pagesTemplateResolver(applicationContext));
+    }
+
+    /**
+     * Creates template resolver of the documentation pages
+     */
+    static SpringResourceTemplateResolver pagesTemplateResolver(ApplicationContext applicationContext) {
         SpringResourceTemplateResolver resolver = new SpringResourceTemplateResolver();
         resolver.setApplicationContext(applicationContext);
         resolver.setPrefix("classpath:/pages/");
@@ -69,7 +129,96 @@ public class DocAutoConfig {
         resolver.setSuffix(".html");
         resolver.setCacheable(true);
         resolver.setCharacterEncoding("UTF-8");
-        templateEngine.addTemplateResolver(resolver);
+        return resolver;
+    }
+
+    @Configuration
+    @ConditionalOnClass(HealthIndicator.class)
+    static class GraphQLDocHealthConfig {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "graphqlDocHealthIndicator")
+        GraphQLDocHealthIndicator graphqlDocHealthIndicator(GraphQLDocService docService) {
+            return new GraphQLDocHealthIndicator(docService);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class GraphQLDocMetricsConfig {
+
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(DocMetrics.class)
+        GraphQLDocMicrometerMetrics graphqlDocMetrics(MeterRegistry registry, GraphQLDocService docService) {
+            return new GraphQLDocMicrometerMetrics(registry, docService);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class GraphQLDocMetricsFilterConfig {
+
+        @Bean
+        @ConditionalOnBean(DocMetrics.class)
+        FilterRegistrationBean<GraphQLDocMetricsFilter> graphqlDocMetricsFilter(GraphQLDocProperties properties, DocMetrics metrics) {
+            List<String> endpoints = endpoints(properties);
+            FilterRegistrationBean<GraphQLDocMetricsFilter> registration =
+                    new FilterRegistrationBean<>(new GraphQLDocMetricsFilter(endpoints, metrics));
+            endpoints.forEach(endpoint -> registration.addUrlPatterns(endpoint, endpoint + GraphQLDocWebMvcConfig.ASSETS_PATH + "*"));
+            return registration;
+        }
+
+    }
+
+    /**
+     * Measures resolver durations of requests sent from the console of the documentation page
+     */
+    @Configuration
+    @ConditionalOnProperty(value = "graphql.doc.console", havingValue = "true")
+    static class GraphQLDocConsoleConfig {
+
+        @Bean
+        @ConditionalOnMissingBean
+        GraphQLDocConsoleInstrumentation graphqlDocConsoleInstrumentation() {
+            return new GraphQLDocConsoleInstrumentation();
+        }
+
+    }
+
+    /**
+     * Records latency and errors of the served operations for the documentation page and JSON API
+     */
+    @Configuration
+    @ConditionalOnProperty(value = "graphql.doc.stats", havingValue = "true")
+    static class GraphQLDocStatsConfig {
+
+        @Bean
+        @ConditionalOnMissingBean
+        OperationStats graphqlDocOperationStats(GraphQLDocProperties properties) {
+            return new OperationStats(properties.getStatsWindow());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        GraphQLDocStatsInstrumentation graphqlDocStatsInstrumentation(OperationStats operationStats) {
+            return new GraphQLDocStatsInstrumentation(operationStats);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.devtools.classpath.ClassPathChangedEvent")
+    @ConditionalOnProperty(value = "graphql.doc.watch", havingValue = "true")
+    static class GraphQLDocDevToolsConfig {
+
+        @Bean
+        GraphQLDocDevToolsListener graphqlDocDevToolsListener(GraphQLDocService docService) {
+            return new GraphQLDocDevToolsListener(docService);
+        }
+
     }
 
 }
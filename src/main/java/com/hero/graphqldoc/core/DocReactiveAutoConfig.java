@@ -0,0 +1,96 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import com.hero.graphqldoc.controller.GraphQLDocHandler;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import com.hero.graphqldoc.service.DocAssetCache;
+import com.hero.graphqldoc.service.DocAssets;
+import com.hero.graphqldoc.service.DocGroup;
+import com.hero.graphqldoc.service.DocMetrics;
+import com.hero.graphqldoc.service.DocPageRenderer;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import com.hero.graphqldoc.service.OperationStats;
+import graphql.kickstart.autoconfigure.tools.GraphQLJavaToolsAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureOrder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+/**
+ * Documentation for reactive web applications.
+ * The page, JSON API and assets of each group are served by a router function instead of Spring MVC controllers.
+ * Health, metrics, devtools, console and operation statistics support are shared with the servlet configuration.
+ * Nothing is routed when graphql.doc.enabled is false.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(RouterFunction.class)
+@ConditionalOnProperty(value = "graphql.doc.enabled", havingValue = "true", matchIfMissing = true)
+@AutoConfigureAfter(value = {WebFluxAutoConfiguration.class, GraphQLJavaToolsAutoConfiguration.class},
+        name = {"org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration",
+                "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"})
+@EnableConfigurationProperties(GraphQLDocProperties.class)
+@AutoConfigureOrder(Integer.MAX_VALUE)
+@Import({DocAutoConfig.GraphQLDocHealthConfig.class, DocAutoConfig.GraphQLDocMetricsConfig.class, DocAutoConfig.GraphQLDocDevToolsConfig.class,
+        DocAutoConfig.GraphQLDocConsoleConfig.class, DocAutoConfig.GraphQLDocStatsConfig.class})
+public class DocReactiveAutoConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TemplateEngine.class)
+    TemplateEngine graphqlDocTemplateEngine() {
+        return new SpringTemplateEngine();
+    }
+
+    @Bean
+    GraphQLDocService graphqlDocService(GraphQLDocProperties properties, ApplicationContext applicationContext) {
+        return new GraphQLDocService(properties, applicationContext);
+    }
+
+    /**
+     * Routes page, JSON API and assets of each group, each group renders its page with its own settings
+     */
+    @Bean
+    RouterFunction<ServerResponse> graphqlDocRouter(GraphQLDocService docService, TemplateEngine templateEngine,
+                                                    ApplicationContext applicationContext, ObjectProvider<WebFluxProperties> webFluxProperties,
+                                                    ObjectProvider<DocMetrics> metrics, ObjectProvider<OperationStats> operationStats) {
+        templateEngine.addTemplateResolver(DocAutoConfig.pagesTemplateResolver(applicationContext));
+        WebFluxProperties webFlux = webFluxProperties.getIfAvailable();
+        String basePath = webFlux == null || !StringUtils.hasText(webFlux.getBasePath()) ? "" : webFlux.getBasePath();
+        DocMetrics docMetrics = metrics.getIfAvailable(() -> DocMetrics.NONE);
+        OperationStats stats = operationStats.getIfAvailable();
+        DocAssetCache assetCache = new DocAssetCache(applicationContext.getClassLoader());
+        RouterFunction<ServerResponse> routes = null;
+        for (DocGroup group : docService.getGroups()) {
+            String assetsPath = group.getProperties().getEndpoint() + GraphQLDocWebMvcConfig.ASSETS_PATH;
+            DocAssets assets = new DocAssets(basePath, group.getProperties().getEndpoint(), lookupPath -> {
+                String versioned = assetCache.versionedPath(lookupPath.substring(assetsPath.length()));
+                return versioned == null ? null : assetsPath + versioned;
+            });
+            DocPageRenderer pageRenderer = new DocPageRenderer(templateEngine, group.getProperties(), assets, docMetrics);
+            RouterFunction<ServerResponse> groupRoutes = new GraphQLDocHandler(group, pageRenderer, assetCache, docMetrics, stats).routes();
+            routes = routes == null ? groupRoutes : routes.and(groupRoutes);
+        }
+        return routes;
+    }
+
+}
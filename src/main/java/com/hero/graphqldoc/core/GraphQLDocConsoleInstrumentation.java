@@ -0,0 +1,117 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLNamedType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures resolver durations of requests sent from the documentation console.
+ * Only requests with the graphqlDocTiming request extension are measured, other requests get no state and every
+ * callback returns at once. Durations are summed per schema field like Query.getUser and returned in the
+ * graphqlDocTiming response extension, slowest field first.
+ */
+public class GraphQLDocConsoleInstrumentation extends SimpleInstrumentation {
+
+    public static final String EXTENSION = "graphqlDocTiming";
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        Map<String, Object> extensions = parameters.getExecutionInput().getExtensions();
+        return extensions != null && Boolean.TRUE.equals(extensions.get(EXTENSION)) ? new TimingState() : null;
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        if (!(parameters.getInstrumentationState() instanceof TimingState state)) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        String field = coordinate(parameters.getEnvironment());
+        long start = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> state.add(field, System.nanoTime() - start));
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, InstrumentationExecutionParameters parameters) {
+        if (!(parameters.getInstrumentationState() instanceof TimingState state)) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        return CompletableFuture.completedFuture(ExecutionResultImpl.newExecutionResult()
+                .from(executionResult)
+                .addExtension(EXTENSION, state.toExtension())
+                .build());
+    }
+
+    private static String coordinate(DataFetchingEnvironment environment) {
+        String parent = environment.getParentType() instanceof GraphQLNamedType namedType ? namedType.getName() : "";
+        return parent + "." + environment.getFieldDefinition().getName();
+    }
+
+    /**
+     * Field durations of one console request
+     */
+    private static class TimingState implements InstrumentationState {
+
+        private final long start = System.nanoTime();
+        private final Map<String, FieldTiming> fields = new ConcurrentHashMap<>();
+
+        void add(String field, long duration) {
+            fields.merge(field, new FieldTiming(1, duration, duration), FieldTiming::plus);
+        }
+
+        /**
+         * Returns total duration and field durations in nanoseconds
+         */
+        Map<String, Object> toExtension() {
+            List<Map<String, Object>> timings = new ArrayList<>();
+            fields.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, FieldTiming> entry) -> entry.getValue().duration()).reversed())
+                    .forEach(entry -> {
+                        Map<String, Object> timing = new LinkedHashMap<>();
+                        timing.put("field", entry.getKey());
+                        timing.put("count", entry.getValue().count());
+                        timing.put("duration", entry.getValue().duration());
+                        timing.put("maxDuration", entry.getValue().maxDuration());
+                        timings.add(timing);
+                    });
+            Map<String, Object> extension = new LinkedHashMap<>();
+            extension.put("duration", System.nanoTime() - start);
+            extension.put("fields", timings);
+            return extension;
+        }
+
+    }
+
+    /**
+     * Fetch count, summed and longest fetch duration of a field
+     */
+    private record FieldTiming(long count, long duration, long maxDuration) {
+
+        FieldTiming plus(FieldTiming other) {
+            return new FieldTiming(count + other.count, duration + other.duration, Math.max(maxDuration, other.maxDuration));
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import com.hero.graphqldoc.service.DocGroup;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import org.springframework.boot.devtools.classpath.ClassPathChangedEvent;
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFiles;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Reloads documentation groups when devtools reports changed schema files of them without restarting the application.
+ * Changes which restart the application are rebuilt incrementally by the restarted documentation service.
+ */
+public class GraphQLDocDevToolsListener implements ApplicationListener<ClassPathChangedEvent> {
+
+    private final GraphQLDocService docService;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    public GraphQLDocDevToolsListener(GraphQLDocService docService) {
+        this.docService = docService;
+    }
+
+    @Override
+    public void onApplicationEvent(ClassPathChangedEvent event) {
+        if (event.isRestartRequired()) {
+            return;
+        }
+        for (DocGroup group : docService.getGroups()) {
+            if (isChanged(event, group.getProperties().getSchemaLocationPattern())) {
+                group.reload();
+            }
+        }
+    }
+
+    /**
+     * Checks if a changed file matches the schema location pattern of a group
+     */
+    private boolean isChanged(ClassPathChangedEvent event, String schemaLocationPattern) {
+        for (ChangedFiles changedFiles : event.getChangeSet()) {
+            for (ChangedFile changedFile : changedFiles) {
+                if (matcher.match(schemaLocationPattern, changedFile.getRelativeName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
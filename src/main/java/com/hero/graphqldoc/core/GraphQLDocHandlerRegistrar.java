@@ -0,0 +1,102 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers the page and JSON API controllers of each documentation group under the endpoint of the group.
+ * Controllers are not beans, so the same controller types are registered once for each group. The endpoint
+ * placeholder of their request mappings is replaced with the endpoint of the group.
+ * Mappings are registered on the application's {@link RequestMappingHandlerMapping}, so documentation requests get
+ * the same interceptors and CORS configuration as the application's own controllers.
+ */
+public class GraphQLDocHandlerRegistrar implements ApplicationContextAware, InitializingBean {
+
+    public static final String ENDPOINT_PLACEHOLDER = "${graphql.doc.endpoint:/document}";
+    private final GroupRequestMapping mapping;
+
+    /**
+     * @param target      request mapping of the application
+     * @param controllers controllers of each group by group endpoint
+     */
+    public GraphQLDocHandlerRegistrar(RequestMappingHandlerMapping target, Map<String, List<Object>> controllers) {
+        this.mapping = new GroupRequestMapping(target, controllers);
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        mapping.setApplicationContext(applicationContext);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        mapping.afterPropertiesSet();
+    }
+
+    /**
+     * Reads request mappings of the given controllers and registers them on the target mapping
+     */
+    private static class GroupRequestMapping extends RequestMappingHandlerMapping {
+
+        private final RequestMappingHandlerMapping target;
+        private final Map<String, List<Object>> controllers;
+        private String endpoint;
+
+        GroupRequestMapping(RequestMappingHandlerMapping target, Map<String, List<Object>> controllers) {
+            this.target = target;
+            this.controllers = controllers;
+        }
+
+        /**
+         * Reads request mappings with the path matching options of the target
+         */
+        @Override
+        public void afterPropertiesSet() {
+            setPatternParser(target.getPatternParser());
+            setUrlPathHelper(target.getUrlPathHelper());
+            setPathMatcher(target.getPathMatcher());
+            setUseTrailingSlashMatch(target.useTrailingSlashMatch());
+            setContentNegotiationManager(target.getContentNegotiationManager());
+            super.afterPropertiesSet();
+            controllers.forEach((groupEndpoint, handlers) -> {
+                endpoint = groupEndpoint;
+                handlers.forEach(this::detectHandlerMethods);
+            });
+            endpoint = null;
+        }
+
+        @Override
+        protected boolean isHandler(Class<?> beanType) {
+            return false;
+        }
+
+        @Override
+        protected String[] resolveEmbeddedValuesInPatterns(String[] patterns) {
+            String[] resolved = new String[patterns.length];
+            for (int i = 0; i < patterns.length; i++) {
+                resolved[i] = patterns[i].replace(ENDPOINT_PLACEHOLDER, endpoint);
+            }
+            return super.resolveEmbeddedValuesInPatterns(resolved);
+        }
+
+        @Override
+        protected void registerHandlerMethod(Object handler, Method method, RequestMappingInfo mapping) {
+            target.registerMapping(mapping, handler, method);
+        }
+
+    }
+
+}
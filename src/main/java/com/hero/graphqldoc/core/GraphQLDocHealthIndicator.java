@@ -0,0 +1,39 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import com.hero.graphqldoc.enums.BuildState;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports the documentation build state, or the build state of each group when there are multiple groups.
+ * It is always UP, so a documentation build never holds back the readiness of the application.
+ */
+public class GraphQLDocHealthIndicator implements HealthIndicator {
+
+    private final GraphQLDocService docService;
+
+    public GraphQLDocHealthIndicator(GraphQLDocService docService) {
+        this.docService = docService;
+    }
+
+    @Override
+    public Health health() {
+        if (docService.getGroups().size() == 1) {
+            return Health.up().withDetail("state", docService.getState()).build();
+        }
+        Map<String, BuildState> states = new LinkedHashMap<>();
+        docService.getGroups().forEach(group -> states.put(group.getName(), group.getState()));
+        return Health.up().withDetail("groups", states).build();
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import com.hero.graphqldoc.service.DocMetrics;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Counts bytes written for the documentation page and its assets.
+ * Streamed pages are written after the filter returns, so they are reported when the async request completes.
+ */
+public class GraphQLDocMetricsFilter extends OncePerRequestFilter {
+
+    private final List<String> assetsPaths;
+    private final DocMetrics metrics;
+
+    public GraphQLDocMetricsFilter(Collection<String> endpoints, DocMetrics metrics) {
+        this.assetsPaths = endpoints.stream().map(endpoint -> endpoint + GraphQLDocWebMvcConfig.ASSETS_PATH).toList();
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getServletPath();
+        String resource = assetsPaths.stream().anyMatch(path::startsWith) ? DocMetrics.ASSET : DocMetrics.PAGE;
+        CountingResponse countingResponse = new CountingResponse(response);
+        filterChain.doFilter(request, countingResponse);
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    report(resource, countingResponse);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else {
+            report(resource, countingResponse);
+        }
+    }
+
+    private void report(String resource, CountingResponse response) {
+        metrics.served(resource, response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED, response.bytes);
+    }
+
+    /**
+     * Response counting bytes written to its output stream
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        private ServletOutputStream outputStream;
+        private long bytes;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream target = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        target.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        target.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        target.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        target.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return target.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        target.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import com.hero.graphqldoc.enums.RenderMode;
+import com.hero.graphqldoc.service.DocGroup;
+import com.hero.graphqldoc.service.DocMetrics;
+import com.hero.graphqldoc.service.DocSnapshot;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records documentation measurements as Micrometer metrics.
+ * Model size gauges are tagged with the group name and read the current snapshot of the group when they are published.
+ */
+public class GraphQLDocMicrometerMetrics implements DocMetrics {
+
+    private static final String RESOURCE = "resource";
+    private static final String GROUP = "group";
+    private final MeterRegistry registry;
+
+    public GraphQLDocMicrometerMetrics(MeterRegistry registry, GraphQLDocService docService) {
+        this.registry = registry;
+        for (DocGroup group : docService.getGroups()) {
+            Gauge.builder("graphql.doc.model.operations", group, GraphQLDocMicrometerMetrics::operations)
+                    .description("Documented operations")
+                    .tag(GROUP, group.getName())
+                    .register(registry);
+            Gauge.builder("graphql.doc.model.types", group, GraphQLDocMicrometerMetrics::types)
+                    .description("Documented schema types")
+                    .tag(GROUP, group.getName())
+                    .register(registry);
+            Gauge.builder("graphql.doc.model.retained", group, docGroup -> docGroup.getSnapshot().getRetainedBytes())
+                    .description("Approximate bytes retained by the serialized model and the rendered page")
+                    .baseUnit("bytes")
+                    .tag(GROUP, group.getName())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void pageRendered(RenderMode renderMode, long nanos) {
+        registry.timer("graphql.doc.render", "mode", renderMode.name().toLowerCase()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void pageCache(boolean hit) {
+        registry.counter("graphql.doc.page.cache", "result", hit ? "hit" : "miss").increment();
+    }
+
+    @Override
+    public void served(String resource, boolean notModified, long bytes) {
+        registry.counter("graphql.doc.requests", RESOURCE, resource, "cache", notModified ? "hit" : "miss").increment();
+        registry.summary("graphql.doc.served.bytes", RESOURCE, resource).record(bytes);
+    }
+
+    private static double operations(DocGroup group) {
+        DocSnapshot snapshot = group.getSnapshot();
+        return snapshot.getIndex() == null ? 0 : snapshot.getIndex().getOperationCount();
+    }
+
+    private static double types(DocGroup group) {
+        DocSnapshot snapshot = group.getSnapshot();
+        return snapshot.getModel() == null ? 0 : snapshot.getModel().getObjectTypes().size();
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.core;
+
+import com.hero.graphqldoc.service.DocModelIndex;
+import com.hero.graphqldoc.service.OperationStats;
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import graphql.execution.ExecutionContext;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldParameters;
+
+import java.util.List;
+
+/**
+ * Records latency and errors of the root fields of all requests into operation statistics.
+ * Root fields are recorded with the type of the executed operation, like documented operations.
+ * A root field is measured from its fetch until its selections are completed. It counts as failed when it throws or
+ * when an error of the request has a path below the field. Other fields are not measured and request state is not
+ * created, so each request costs two clock reads and two counter updates per root field.
+ */
+public class GraphQLDocStatsInstrumentation extends SimpleInstrumentation {
+
+    private final OperationStats stats;
+
+    public GraphQLDocStatsInstrumentation(OperationStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginField(InstrumentationFieldParameters parameters) {
+        ExecutionStepInfo stepInfo = parameters.getExecutionStepInfo();
+        if (stepInfo.getPath().getLevel() != 1) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        ExecutionContext executionContext = parameters.getExecutionContext();
+        String operation = DocModelIndex.key(executionContext.getOperationDefinition().getOperation().name(),
+                stepInfo.getFieldDefinition().getName());
+        String resultKey = stepInfo.getPath().getSegmentName();
+        long start = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> stats.record(operation,
+                System.nanoTime() - start, throwable != null || hasError(executionContext, resultKey)));
+    }
+
+    private static boolean hasError(ExecutionContext executionContext, String resultKey) {
+        for (GraphQLError error : executionContext.getErrors()) {
+            List<Object> path = error.getPath();
+            if (path != null && !path.isEmpty() && resultKey.equals(path.get(0))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
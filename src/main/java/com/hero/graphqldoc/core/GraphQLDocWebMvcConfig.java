@@ -7,21 +7,50 @@
 package com.hero.graphqldoc.core;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
+import java.util.Collection;
+
+/**
+ * Serves documentation assets under the endpoint of each documentation group only.
+ * Asset urls carry a content hash, so assets are cached as immutable for a year.
+ */
 @ConditionalOnProperty(name = "graphql.doc.enabled", matchIfMissing = true)
 public class GraphQLDocWebMvcConfig implements WebMvcConfigurer {
 
-    private static final String[] CLASSPATH_RESOURCE_LOCATIONS = {
-            "classpath:/META-INF/resources/", "classpath:/resources/",
-            "classpath:/static/", "classpath:/public/", "classpath:/pages/"};
+    public static final String ASSETS_PATH = "/assets/";
+    private static final String ASSETS_LOCATION = "classpath:/pages/assets/";
+    private final Collection<String> endpoints;
+
+    public GraphQLDocWebMvcConfig(Collection<String> endpoints) {
+        this.endpoints = endpoints;
+    }
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry
-                .addResourceHandler("/**")
-                .addResourceLocations(CLASSPATH_RESOURCE_LOCATIONS);
+                .addResourceHandler(endpoints.stream().map(endpoint -> endpoint + ASSETS_PATH + "**").toArray(String[]::new))
+                .addResourceLocations(ASSETS_LOCATION)
+                .setCacheControl(new ImmutableCacheControl())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Cache control for one year with immutable directive
+     */
+    private static class ImmutableCacheControl extends CacheControl {
+
+        @Override
+        public String getHeaderValue() {
+            return "max-age=31536000, public, immutable";
+        }
+
     }
 
 }
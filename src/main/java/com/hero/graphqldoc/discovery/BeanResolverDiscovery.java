@@ -0,0 +1,62 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.discovery;
+
+import graphql.kickstart.tools.GraphQLResolver;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the resolver annotations from the resolver beans already registered for graphql-java-tools.
+ * Bean types are resolved from their definitions, so no resolver is instantiated by the discovery.
+ * Only beans whose classes are in the given package or its subpackages are used, like the classpath scan.
+ * Falls back to the given discovery when no annotated resolver bean exists.
+ */
+public class BeanResolverDiscovery implements ResolverDiscovery {
+
+    private final ListableBeanFactory beanFactory;
+    private final String packagePrefix;
+    private final ResolverDiscovery fallback;
+
+    /**
+     * @param packageName package of the resolvers, all packages when empty
+     */
+    public BeanResolverDiscovery(ListableBeanFactory beanFactory, String packageName, ResolverDiscovery fallback) {
+        this.beanFactory = beanFactory;
+        this.packagePrefix = StringUtils.hasText(packageName) ? packageName + "." : "";
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Map<Class<? extends Annotation>, Set<Class<?>>> discover() {
+        Map<Class<? extends Annotation>, Set<Class<?>>> resolvers = new HashMap<>();
+        for (String beanName : beanFactory.getBeanNamesForType(GraphQLResolver.class, true, false)) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> clazz = ClassUtils.getUserClass(beanType);
+            if (!clazz.getName().startsWith(packagePrefix)) {
+                continue;
+            }
+            for (Class<? extends Annotation> annotation : RESOLVER_ANNOTATIONS) {
+                if (clazz.isAnnotationPresent(annotation)) {
+                    resolvers.computeIfAbsent(annotation, key -> new HashSet<>()).add(clazz);
+                }
+            }
+        }
+        return resolvers.isEmpty() ? fallback.discover() : resolvers;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.discovery;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.index.CandidateComponentsIndex;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scans the given packages once for all resolver annotations.
+ * The candidate component index in META-INF/spring.components is read instead of walking the classpath when it exists.
+ * The empty root package is never scanned, and classes which can not be read or loaded, like classes referencing
+ * types missing from the classpath, are skipped.
+ */
+@Slf4j
+public class ClasspathResolverDiscovery implements ResolverDiscovery {
+
+    private final ResourceLoader resourceLoader;
+    private final List<String> packageNames;
+
+    /**
+     * @param packageName package of the resolvers, nothing is scanned when empty
+     */
+    public ClasspathResolverDiscovery(ResourceLoader resourceLoader, String packageName) {
+        this(resourceLoader, StringUtils.hasText(packageName) ? List.of(packageName) : List.of());
+    }
+
+    /**
+     * @param packageNames packages of the resolvers, empty names are ignored
+     */
+    public ClasspathResolverDiscovery(ResourceLoader resourceLoader, Collection<String> packageNames) {
+        this.resourceLoader = resourceLoader;
+        this.packageNames = packageNames.stream().filter(StringUtils::hasText).toList();
+    }
+
+    @Override
+    public Map<Class<? extends Annotation>, Set<Class<?>>> discover() {
+        Map<Class<? extends Annotation>, Set<Class<?>>> resolvers = new HashMap<>();
+        if (packageNames.isEmpty()) {
+            log.warn("No resolver package to scan, set graphql.doc.package-name to document resolvers which are not beans");
+            return resolvers;
+        }
+        CandidateComponentsIndex index = CandidateComponentsIndexLoader.loadIndex(resourceLoader.getClassLoader());
+        for (String packageName : packageNames) {
+            if (index != null) {
+                readIndex(index, packageName, resolvers);
+            } else {
+                scan(packageName, resolvers);
+            }
+        }
+        return resolvers;
+    }
+
+    private void readIndex(CandidateComponentsIndex index, String packageName, Map<Class<? extends Annotation>, Set<Class<?>>> resolvers) {
+        for (Class<? extends Annotation> annotation : RESOLVER_ANNOTATIONS) {
+            for (String className : index.getCandidateTypes(packageName, annotation.getName())) {
+                add(className, annotation, resolvers);
+            }
+        }
+    }
+
+    private void scan(String packageName, Map<Class<? extends Annotation>, Set<Class<?>>> resolvers) {
+        ResourcePatternResolver resourceResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
+        String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(packageName) + "/**/*.class";
+        Resource[] resources;
+        try {
+            resources = resourceResolver.getResources(pattern);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resolver package " + packageName + " could not be scanned", e);
+        }
+        for (Resource resource : resources) {
+            AnnotationMetadata metadata;
+            try {
+                metadata = metadataReaderFactory.getMetadataReader(resource).getAnnotationMetadata();
+            } catch (IOException | RuntimeException | LinkageError e) {
+                log.debug("Class file {} could not be read, it is skipped by resolver discovery", resource, e);
+                continue;
+            }
+            if (!metadata.isIndependent() || !metadata.isConcrete()) {
+                continue;
+            }
+            for (Class<? extends Annotation> annotation : RESOLVER_ANNOTATIONS) {
+                if (metadata.hasAnnotation(annotation.getName())) {
+                    add(metadata.getClassName(), annotation, resolvers);
+                }
+            }
+        }
+    }
+
+    private void add(String className, Class<? extends Annotation> annotation, Map<Class<? extends Annotation>, Set<Class<?>>> resolvers) {
+        Class<?> clazz;
+        try {
+            clazz = ClassUtils.forName(className, resourceLoader.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.debug("Resolver class {} could not be loaded, it is skipped by resolver discovery", className, e);
+            return;
+        }
+        resolvers.computeIfAbsent(annotation, key -> new HashSet<>()).add(clazz);
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.discovery;
+
+import com.hero.graphqldoc.annotations.MutationType;
+import com.hero.graphqldoc.annotations.QueryType;
+import com.hero.graphqldoc.annotations.SubscriptionType;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the resolver classes annotated with @QueryType, @MutationType or @SubscriptionType
+ */
+public interface ResolverDiscovery {
+
+    List<Class<? extends Annotation>> RESOLVER_ANNOTATIONS = List.of(QueryType.class, MutationType.class, SubscriptionType.class);
+
+    /**
+     * Discovers all documented resolvers at once
+     *
+     * @return resolver classes grouped by their resolver annotation
+     */
+    Map<Class<? extends Annotation>, Set<Class<?>>> discover();
+
+}
@@ -0,0 +1,15 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.enums;
+
+public enum BuildState {
+
+    BUILDING,
+    READY,
+    FAILED
+
+}
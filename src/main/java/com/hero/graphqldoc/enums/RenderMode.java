@@ -0,0 +1,14 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.enums;
+
+public enum RenderMode {
+
+    PRERENDERED,
+    STREAMING
+
+}
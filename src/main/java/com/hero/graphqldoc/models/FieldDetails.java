@@ -16,5 +16,15 @@ public class FieldDetails {
 
     private String name;
     private TypeName type;
+    private boolean notNull;
+    private boolean list;
+
+    /**
+     * @deprecated nullability and list flags are read from the schema, use the constructor with all fields
+     */
+    @Deprecated
+    public FieldDetails(String name, TypeName type) {
+        this(name, type, false, false);
+    }
 
 }
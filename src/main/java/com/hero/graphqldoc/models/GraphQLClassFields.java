@@ -16,6 +16,10 @@ public class GraphQLClassFields {
 
     private String description;
     private String name;
+    private String kind = "type";
     private List<GraphQLField> fields = new ArrayList<>();
+    private List<String> values = new ArrayList<>();
+    private List<String> members = new ArrayList<>();
+    private List<String> interfaces = new ArrayList<>();
 
 }
@@ -0,0 +1,25 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class GraphQLDocModel {
+
+    private String fingerprint;
+    private List<String> sourceClasses = new ArrayList<>();
+    private Map<String, GraphQLObject> details = new HashMap<>();
+    private Map<String, GraphQLClassFields> objectTypes = new HashMap<>();
+    private Map<String, String> graphQLToJavaMap = new HashMap<>();
+
+}
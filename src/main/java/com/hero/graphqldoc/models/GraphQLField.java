@@ -18,5 +18,6 @@ public class GraphQLField {
     private String type = "";
     private Boolean javaType = true;
     private Boolean listType = false;
+    private Boolean notNull = false;
 
 }
@@ -14,6 +14,7 @@ public class GraphQLMethodObject {
     private String description;
     private String operation;
     private String name;
+    private String operationType;
     private String methodName;
     private String outputJson;
     private String outputName;
@@ -0,0 +1,20 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GroupResponse {
+
+    private String key;
+    private String description;
+    private PagedResponse<GraphQLMethodObject> operations;
+
+}
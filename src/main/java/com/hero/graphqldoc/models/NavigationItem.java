@@ -0,0 +1,23 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class NavigationItem {
+
+    private String key;
+    private String title;
+    private List<NavigationItem> children;
+    private String kind;
+
+}
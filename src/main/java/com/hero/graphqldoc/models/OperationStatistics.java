@@ -0,0 +1,26 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Calls of an operation in the current and the previous statistics window, durations are in milliseconds
+ */
+@Data
+@AllArgsConstructor
+public class OperationStatistics {
+
+    private long calls;
+    private double callRate;
+    private double errorRate;
+    private double p50;
+    private double p95;
+    private double p99;
+
+}
@@ -0,0 +1,37 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class PagedResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private int totalElements;
+
+    /**
+     * Returns the requested page of given list
+     *
+     * @param items all items
+     * @param page  zero based page number
+     * @param size  page size
+     * @return page of items
+     */
+    public static <T> PagedResponse<T> of(List<T> items, int page, int size) {
+        int from = (int) Math.min((long) page * size, items.size());
+        int to = (int) Math.min((long) from + size, items.size());
+        return new PagedResponse<>(items.subList(from, to), page, size, items.size());
+    }
+
+}
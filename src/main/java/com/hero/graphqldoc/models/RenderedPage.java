@@ -0,0 +1,20 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RenderedPage {
+
+    private byte[] body;
+    private byte[] gzipBody;
+    private String etag;
+
+}
@@ -0,0 +1,22 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SearchResult {
+
+    private String kind;
+    private String name;
+    private String parent;
+    private String description;
+    private String anchor;
+
+}
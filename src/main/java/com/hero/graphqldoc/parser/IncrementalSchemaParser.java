@@ -0,0 +1,170 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.parser;
+
+import com.hero.graphqldoc.enums.GraphType;
+import com.hero.graphqldoc.models.SchemaChanges;
+import graphql.language.AstPrinter;
+import graphql.language.FieldDefinition;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.TypeDefinition;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Parses schema files and keeps the registry of each file.
+ * A file is parsed again only when its content changed since the previous parse. Definitions of a changed file are
+ * compared with its previous definitions, and the names of changed, added and removed definitions are reported as
+ * schema changes.
+ */
+public class IncrementalSchemaParser {
+
+    private Map<String, ParsedFile> files = new HashMap<>();
+    private SchemaChanges changes = new SchemaChanges(true, Set.of(), Set.of());
+
+    /**
+     * Parses changed schema files and merges all files in the given order
+     *
+     * @param resources schema files
+     * @return merged schema registry
+     */
+    public synchronized TypeDefinitionRegistry parse(Resource[] resources) {
+        boolean full = files.isEmpty();
+        String[] keys = new String[resources.length];
+        String[] hashes = new String[resources.length];
+        Map<String, ParsedFile> parsed = new HashMap<>();
+        List<Integer> changed = new ArrayList<>();
+        for (int i = 0; i < resources.length; i++) {
+            keys[i] = key(resources[i]);
+            hashes[i] = hash(resources[i]);
+            ParsedFile previous = files.get(keys[i]);
+            if (previous != null && previous.hash().equals(hashes[i])) {
+                parsed.put(keys[i], previous);
+            } else {
+                changed.add(i);
+            }
+        }
+        List<TypeDefinitionRegistry> changedRegistries = changed.parallelStream().map(i -> SchemaFileParser.parse(resources[i])).toList();
+        Set<String> types = new HashSet<>();
+        Set<String> operations = new HashSet<>();
+        for (int i = 0; i < changed.size(); i++) {
+            int index = changed.get(i);
+            ParsedFile current = new ParsedFile(hashes[index], changedRegistries.get(i), typeDefinitions(changedRegistries.get(i)),
+                    operationDefinitions(changedRegistries.get(i)));
+            parsed.put(keys[index], current);
+            ParsedFile previous = files.get(keys[index]);
+            addChanged(previous == null ? Map.of() : previous.types(), current.types(), types);
+            addChanged(previous == null ? Map.of() : previous.operations(), current.operations(), operations);
+        }
+        for (Map.Entry<String, ParsedFile> entry : files.entrySet()) {
+            if (!parsed.containsKey(entry.getKey())) {
+                types.addAll(entry.getValue().types().keySet());
+                operations.addAll(entry.getValue().operations().keySet());
+            }
+        }
+        files = parsed;
+        changes = new SchemaChanges(full, types, operations);
+        return SchemaFileParser.merge(resources, IntStream.range(0, resources.length).mapToObj(i -> parsed.get(keys[i]).registry()).toList());
+    }
+
+    /**
+     * Returns names defined by the schema files which changed in the last parse
+     *
+     * @return schema changes, full on the first parse
+     */
+    public synchronized SchemaChanges getChanges() {
+        return changes;
+    }
+
+    /**
+     * Adds names whose definitions differ in given definitions
+     */
+    private static void addChanged(Map<String, String> previous, Map<String, String> current, Set<String> changed) {
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String name : previous.keySet()) {
+            if (!current.containsKey(name)) {
+                changed.add(name);
+            }
+        }
+    }
+
+    /**
+     * Returns printed type definitions and extensions of the registry by type name
+     *
+     * @param registry schema registry
+     * @return printed definitions without source locations
+     */
+    public static Map<String, String> typeDefinitions(TypeDefinitionRegistry registry) {
+        Map<String, String> definitions = new HashMap<>();
+        registry.types().forEach((name, definition) -> definitions.merge(name, AstPrinter.printAstCompact(definition), String::concat));
+        List<TypeDefinition<?>> extensions = new ArrayList<>();
+        registry.objectTypeExtensions().values().forEach(extensions::addAll);
+        registry.inputObjectTypeExtensions().values().forEach(extensions::addAll);
+        registry.enumTypeExtensions().values().forEach(extensions::addAll);
+        for (TypeDefinition<?> extension : extensions) {
+            definitions.merge(extension.getName(), AstPrinter.printAstCompact(extension), String::concat);
+        }
+        return definitions;
+    }
+
+    /**
+     * Returns printed operation fields of the registry by operation name
+     *
+     * @param registry schema registry
+     * @return printed field definitions without source locations
+     */
+    public static Map<String, String> operationDefinitions(TypeDefinitionRegistry registry) {
+        Map<String, String> definitions = new HashMap<>();
+        for (GraphType graphType : GraphType.values()) {
+            List<ObjectTypeDefinition> rootDefinitions = new ArrayList<>(registry.objectTypeExtensions().getOrDefault(graphType.getType(), List.of()));
+            registry.getType(graphType.getType(), ObjectTypeDefinition.class).ifPresent(rootDefinitions::add);
+            for (ObjectTypeDefinition definition : rootDefinitions) {
+                for (FieldDefinition fieldDefinition : definition.getFieldDefinitions()) {
+                    definitions.merge(fieldDefinition.getName(), AstPrinter.printAstCompact(fieldDefinition), String::concat);
+                }
+            }
+        }
+        return definitions;
+    }
+
+    private static String key(Resource resource) {
+        try {
+            return resource.getURL().toString();
+        } catch (IOException e) {
+            return resource.getDescription();
+        }
+    }
+
+    private static String hash(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Schema file " + resource.getDescription() + " could not be read", e);
+        }
+    }
+
+    private record ParsedFile(String hash, TypeDefinitionRegistry registry, Map<String, String> types,
+                              Map<String, String> operations) {
+    }
+
+}
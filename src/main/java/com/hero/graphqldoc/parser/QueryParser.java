@@ -11,66 +11,156 @@ import com.hero.graphqldoc.enums.GraphType;
 import com.hero.graphqldoc.models.FieldDetails;
 import com.hero.graphqldoc.models.GraphQLQueryType;
 import com.hero.graphqldoc.models.GraphQLTypeDetails;
+import graphql.language.EnumTypeDefinition;
 import graphql.language.FieldDefinition;
 import graphql.language.InputObjectTypeDefinition;
 import graphql.language.InputValueDefinition;
+import graphql.language.InterfaceTypeDefinition;
 import graphql.language.ListType;
 import graphql.language.NonNullType;
 import graphql.language.ObjectTypeDefinition;
-import graphql.language.ObjectTypeExtensionDefinition;
 import graphql.language.Type;
 import graphql.language.TypeDefinition;
 import graphql.language.TypeName;
+import graphql.language.UnionTypeDefinition;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
+/**
+ * Indexes a schema registry in one pass.
+ * Types, their extensions and the operations of the root types are collected into name keyed tables and wrapped
+ * field types are resolved while indexing.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class QueryParser {
 
-    @SneakyThrows
-    public static List<GraphQLTypeDetails> getQueries(TypeDefinitionRegistry typeRegistry, GraphType graphType) {
-        List<GraphQLTypeDetails> queryList = new ArrayList<>();
-        List<ObjectTypeExtensionDefinition> objects = typeRegistry.objectTypeExtensions().get(graphType.getType());
-        if (objects != null) {
-            for (ObjectTypeExtensionDefinition extensionDefinition : objects) {
-                for (FieldDefinition fieldDefinition : extensionDefinition.getFieldDefinitions()) {
-                    GraphQLTypeDetails graphQLTypeDetails = new GraphQLTypeDetails();
-                    GraphQLQueryType queryDetails = new GraphQLQueryType();
-                    graphQLTypeDetails.setQlQueryType(queryDetails);
-                    queryDetails.setName(fieldDefinition.getName());
-                    getType(fieldDefinition.getType(), queryDetails);
-                    for (InputValueDefinition inputValueDefinition : fieldDefinition.getInputValueDefinitions()) {
-                        GraphQLQueryType queryDetails1 = new GraphQLQueryType();
-                        queryDetails1.setName(inputValueDefinition.getName());
-                        getType(inputValueDefinition.getType(), queryDetails1);
-                        graphQLTypeDetails.getInputs().putIfAbsent(inputValueDefinition.getName(), queryDetails1);
-                    }
-                    queryList.add(graphQLTypeDetails);
-                }
+    /**
+     * Creates lookup tables of all type definitions and extensions of the registry
+     * Root types are taken from the schema definition when it exists, otherwise they are Query, Mutation and Subscription
+     *
+     * @param typeRegistry schema registry
+     * @return schema index
+     */
+    public static SchemaIndex index(TypeDefinitionRegistry typeRegistry) {
+        Map<String, TypeDefinition<?>> types = new HashMap<>();
+        Map<String, List<FieldDefinition>> objectFields = new HashMap<>();
+        Map<String, List<FieldDetails>> fields = new HashMap<>();
+        Map<String, List<String>> enumValues = new HashMap<>();
+        Map<String, List<String>> unionMembers = new HashMap<>();
+        List<TypeDefinition<?>> definitions = new ArrayList<>();
+        typeRegistry.types().values().forEach(definitions::add);
+        typeRegistry.objectTypeExtensions().values().forEach(definitions::addAll);
+        typeRegistry.interfaceTypeExtensions().values().forEach(definitions::addAll);
+        typeRegistry.inputObjectTypeExtensions().values().forEach(definitions::addAll);
+        typeRegistry.enumTypeExtensions().values().forEach(definitions::addAll);
+        typeRegistry.unionTypeExtensions().values().forEach(definitions::addAll);
+        for (TypeDefinition<?> definition : definitions) {
+            String name = definition.getName();
+            types.putIfAbsent(name, definition);
+            if (definition instanceof ObjectTypeDefinition objectDefinition) {
+                objectFields.computeIfAbsent(name, key -> new ArrayList<>()).addAll(objectDefinition.getFieldDefinitions());
+                addFields(fields, name, objectDefinition.getFieldDefinitions().stream().map(item -> fieldDetails(item.getName(), item.getType())));
+            } else if (definition instanceof InterfaceTypeDefinition interfaceDefinition) {
+                addFields(fields, name, interfaceDefinition.getFieldDefinitions().stream().map(item -> fieldDetails(item.getName(), item.getType())));
+            } else if (definition instanceof InputObjectTypeDefinition inputDefinition) {
+                addFields(fields, name, inputDefinition.getInputValueDefinitions().stream().map(item -> fieldDetails(item.getName(), item.getType())));
+            } else if (definition instanceof EnumTypeDefinition enumDefinition) {
+                enumDefinition.getEnumValueDefinitions().forEach(value -> enumValues.computeIfAbsent(name, key -> new ArrayList<>()).add(value.getName()));
+            } else if (definition instanceof UnionTypeDefinition unionDefinition) {
+                unionDefinition.getMemberTypes().forEach(member -> unionMembers.computeIfAbsent(name, key -> new ArrayList<>())
+                        .add(getTypeName(member).getName()));
             }
         }
-        return queryList;
+        Set<String> scalars = new HashSet<>(typeRegistry.scalars().keySet());
+        scalars.addAll(typeRegistry.scalarTypeExtensions().keySet());
+        Map<GraphType, List<GraphQLTypeDetails>> operations = new EnumMap<>(GraphType.class);
+        for (GraphType graphType : GraphType.values()) {
+            operations.put(graphType, operations(objectFields.getOrDefault(rootTypeName(typeRegistry, graphType), List.of())));
+        }
+        return new SchemaIndex(types, fields, operations, enumValues, unionMembers, scalars);
+    }
+
+    /**
+     * Returns operations of the given root type
+     *
+     * @param typeRegistry schema registry
+     * @param graphType    operation type
+     * @return operations, from the root type definition and its extensions
+     * @deprecated indexes the whole registry on every call, use {@link #index} and {@link SchemaIndex#getOperations}
+     */
+    @Deprecated
+    public static List<GraphQLTypeDetails> getQueries(TypeDefinitionRegistry typeRegistry, GraphType graphType) {
+        return index(typeRegistry).getOperations(graphType);
     }
 
+    /**
+     * Returns fields of the given type
+     *
+     * @param typeRegistry schema registry
+     * @param className    GraphQL type name
+     * @return fields or empty list when the type has no fields
+     * @deprecated indexes the whole registry on every call, use {@link #index} and {@link SchemaIndex#getFields}
+     */
+    @Deprecated
     public static List<FieldDetails> example(TypeDefinitionRegistry typeRegistry, String className) {
-        Optional<TypeDefinition> objects = typeRegistry.getType(className);
-        if (objects.isPresent()) {
-            if (objects.get() instanceof ObjectTypeDefinition objectTypeDefinition) {
-                return objectTypeDefinition.getFieldDefinitions().stream().map(item ->
-                        new FieldDetails(item.getName(), getTypeName(item.getType()))).toList();
-            } else if (objects.get() instanceof InputObjectTypeDefinition typeDefinition) {
-                return typeDefinition.getInputValueDefinitions().stream().map(item ->
-                        new FieldDetails(item.getName(), getTypeName(item.getType()))).toList();
+        return index(typeRegistry).getFields(className);
+    }
+
+    /**
+     * Returns operations of the root type fields, a field declared twice is taken once
+     */
+    private static List<GraphQLTypeDetails> operations(List<FieldDefinition> fieldDefinitions) {
+        Map<String, GraphQLTypeDetails> operations = new LinkedHashMap<>();
+        for (FieldDefinition fieldDefinition : fieldDefinitions) {
+            GraphQLTypeDetails graphQLTypeDetails = new GraphQLTypeDetails();
+            GraphQLQueryType queryDetails = new GraphQLQueryType();
+            graphQLTypeDetails.setQlQueryType(queryDetails);
+            queryDetails.setName(fieldDefinition.getName());
+            getType(fieldDefinition.getType(), queryDetails);
+            for (InputValueDefinition inputValueDefinition : fieldDefinition.getInputValueDefinitions()) {
+                GraphQLQueryType queryDetails1 = new GraphQLQueryType();
+                queryDetails1.setName(inputValueDefinition.getName());
+                getType(inputValueDefinition.getType(), queryDetails1);
+                graphQLTypeDetails.getInputs().putIfAbsent(inputValueDefinition.getName(), queryDetails1);
             }
+            operations.putIfAbsent(fieldDefinition.getName(), graphQLTypeDetails);
         }
-        return new ArrayList<>();
+        return List.copyOf(operations.values());
+    }
 
+    private static String rootTypeName(TypeDefinitionRegistry typeRegistry, GraphType graphType) {
+        return typeRegistry.schemaDefinition().flatMap(schema -> schema.getOperationTypeDefinitions().stream()
+                        .filter(operation -> operation.getName().equalsIgnoreCase(graphType.name()))
+                        .map(operation -> operation.getTypeName().getName())
+                        .findFirst())
+                .orElse(graphType.getType());
+    }
+
+    private static void addFields(Map<String, List<FieldDetails>> fields, String name, Stream<FieldDetails> details) {
+        List<FieldDetails> typeFields = fields.computeIfAbsent(name, key -> new ArrayList<>());
+        details.forEach(typeFields::add);
+    }
+
+    private static FieldDetails fieldDetails(String name, Type<?> type) {
+        return new FieldDetails(name, getTypeName(type), type instanceof NonNullType, isList(type));
+    }
+
+    private static boolean isList(Type<?> type) {
+        if (type instanceof NonNullType nnt) {
+            return isList(nnt.getType());
+        }
+        return type instanceof ListType;
     }
 
     private static void getType(Type<?> type, GraphQLQueryType queryDetails) {
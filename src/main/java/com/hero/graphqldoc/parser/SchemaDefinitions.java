@@ -0,0 +1,155 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.parser;
+
+import graphql.language.FieldDefinition;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.ObjectTypeExtensionDefinition;
+import graphql.language.OperationTypeDefinition;
+import graphql.language.SDLDefinition;
+import graphql.language.ScalarTypeDefinition;
+import graphql.language.SchemaDefinition;
+import graphql.language.TypeName;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLUnionType;
+import graphql.schema.idl.ScalarInfo;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the schema definitions the executable schema of the application was built from.
+ * Types keep the definitions they were parsed from, so the registry is collected from the schema without parsing
+ * schema files again. Object type fields which are not in the type definition came from type extensions and are added
+ * as an extension, like they are written in schema files.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SchemaDefinitions {
+
+    /**
+     * Collects the registry of the schema
+     *
+     * @param schema executable schema
+     * @return schema registry or null when a type of the schema was not built from schema definitions
+     */
+    public static TypeDefinitionRegistry registry(GraphQLSchema schema) {
+        List<SDLDefinition> definitions = new ArrayList<>();
+        for (GraphQLNamedType type : schema.getAllTypesAsList()) {
+            if (!type.getName().startsWith("__") && !addDefinitions(type, definitions)) {
+                return null;
+            }
+        }
+        SchemaDefinition schemaDefinition = schemaDefinition(schema);
+        if (schemaDefinition != null) {
+            definitions.add(schemaDefinition);
+        }
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        return registry.addAll(definitions).isPresent() ? null : registry;
+    }
+
+    /**
+     * Adds definitions of the type
+     *
+     * @return false when the type has no definition
+     */
+    private static boolean addDefinitions(GraphQLNamedType type, List<SDLDefinition> definitions) {
+        if (type instanceof GraphQLScalarType scalarType) {
+            if (!ScalarInfo.isGraphqlSpecifiedScalar(scalarType)) {
+                definitions.add(scalarType.getDefinition() != null ? scalarType.getDefinition() :
+                        ScalarTypeDefinition.newScalarTypeDefinition().name(scalarType.getName()).build());
+            }
+            return true;
+        } else if (type instanceof GraphQLObjectType objectType) {
+            return addObjectDefinitions(objectType, definitions);
+        } else if (type instanceof GraphQLInputObjectType inputType && inputType.getDefinition() != null) {
+            definitions.add(inputType.getDefinition());
+            definitions.addAll(inputType.getExtensionDefinitions());
+            return true;
+        } else if (type instanceof GraphQLEnumType enumType && enumType.getDefinition() != null) {
+            definitions.add(enumType.getDefinition());
+            definitions.addAll(enumType.getExtensionDefinitions());
+            return true;
+        } else if (type instanceof GraphQLInterfaceType interfaceType && interfaceType.getDefinition() != null) {
+            definitions.add(interfaceType.getDefinition());
+            definitions.addAll(interfaceType.getExtensionDefinitions());
+            return true;
+        } else if (type instanceof GraphQLUnionType unionType && unionType.getDefinition() != null) {
+            definitions.add(unionType.getDefinition());
+            definitions.addAll(unionType.getExtensionDefinitions());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the object type definition and an extension with the fields which are not in the definition
+     */
+    private static boolean addObjectDefinitions(GraphQLObjectType objectType, List<SDLDefinition> definitions) {
+        ObjectTypeDefinition definition = objectType.getDefinition();
+        if (definition == null) {
+            return false;
+        }
+        Set<String> defined = definition.getFieldDefinitions().stream().map(FieldDefinition::getName).collect(Collectors.toSet());
+        List<FieldDefinition> extended = new ArrayList<>();
+        for (GraphQLFieldDefinition field : objectType.getFieldDefinitions()) {
+            if (!defined.contains(field.getName())) {
+                if (field.getDefinition() == null) {
+                    return false;
+                }
+                extended.add(field.getDefinition());
+            }
+        }
+        if (definition instanceof ObjectTypeExtensionDefinition extension) {
+            List<FieldDefinition> fields = new ArrayList<>(extension.getFieldDefinitions());
+            fields.addAll(extended);
+            definitions.add(extension.transformExtension(builder -> builder.fieldDefinitions(fields)));
+            return true;
+        }
+        definitions.add(definition);
+        if (!objectType.getExtensionDefinitions().isEmpty()) {
+            definitions.addAll(objectType.getExtensionDefinitions());
+        } else if (!extended.isEmpty()) {
+            definitions.add(ObjectTypeExtensionDefinition.newObjectTypeExtensionDefinition()
+                    .name(objectType.getName())
+                    .fieldDefinitions(extended)
+                    .build());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the schema definition when a root type is not named like the default root types
+     */
+    private static SchemaDefinition schemaDefinition(GraphQLSchema schema) {
+        List<OperationTypeDefinition> operations = new ArrayList<>();
+        addOperation(operations, "query", schema.getQueryType());
+        addOperation(operations, "mutation", schema.getMutationType());
+        addOperation(operations, "subscription", schema.getSubscriptionType());
+        boolean renamed = operations.stream().anyMatch(operation -> !operation.getTypeName().getName()
+                .equalsIgnoreCase(operation.getName()));
+        return renamed ? SchemaDefinition.newSchemaDefinition().operationTypeDefinitions(operations).build() : null;
+    }
+
+    private static void addOperation(List<OperationTypeDefinition> operations, String name, GraphQLObjectType type) {
+        if (type != null) {
+            operations.add(new OperationTypeDefinition(name, new TypeName(type.getName())));
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.parser;
+
+import graphql.GraphQLException;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.errors.SchemaProblem;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses schema files in parallel and merges them in the given file order,
+ * so the merged registry does not depend on which file is parsed first.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SchemaFileParser {
+
+    /**
+     * Parses and merges all given schema files
+     *
+     * @param resources schema files
+     * @return merged schema registry
+     */
+    public static TypeDefinitionRegistry parse(Resource[] resources) {
+        return merge(resources, Arrays.stream(resources).parallel().map(SchemaFileParser::parse).toList());
+    }
+
+    /**
+     * Merges registries of schema files in the given file order
+     *
+     * @param resources  schema files
+     * @param registries registry of each schema file
+     * @return merged schema registry
+     */
+    public static TypeDefinitionRegistry merge(Resource[] resources, List<TypeDefinitionRegistry> registries) {
+        TypeDefinitionRegistry typeRegistry = new TypeDefinitionRegistry();
+        for (int i = 0; i < resources.length; i++) {
+            try {
+                typeRegistry.merge(registries.get(i));
+            } catch (SchemaProblem e) {
+                throw new GraphQLException("Schema file " + resources[i].getDescription() + " could not be merged: " + e.getMessage(), e);
+            }
+        }
+        return typeRegistry;
+    }
+
+    /**
+     * Parses a single schema file
+     *
+     * @param resource schema file
+     * @return registry of the file
+     */
+    public static TypeDefinitionRegistry parse(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return new SchemaParser().parse(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Schema file " + resource.getDescription() + " could not be read", e);
+        } catch (GraphQLException e) {
+            throw new GraphQLException("Schema file " + resource.getDescription() + " could not be parsed: " + e.getMessage(), e);
+        }
+    }
+
+}
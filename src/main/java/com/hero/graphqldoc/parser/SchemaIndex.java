@@ -0,0 +1,98 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.parser;
+
+import com.hero.graphqldoc.enums.GraphType;
+import com.hero.graphqldoc.models.FieldDetails;
+import com.hero.graphqldoc.models.GraphQLTypeDetails;
+import graphql.language.TypeDefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Name keyed lookup tables of a schema registry created by {@link QueryParser#index}.
+ * Fields of type extensions are merged into their types and field types are resolved once, so lookups do not walk
+ * definitions again. Tables are only read after indexing.
+ */
+public class SchemaIndex {
+
+    private final Map<String, TypeDefinition<?>> types;
+    private final Map<String, List<FieldDetails>> fields;
+    private final Map<GraphType, List<GraphQLTypeDetails>> operations;
+    private final Map<String, List<String>> enumValues;
+    private final Map<String, List<String>> unionMembers;
+    private final Set<String> scalars;
+
+    SchemaIndex(Map<String, TypeDefinition<?>> types, Map<String, List<FieldDetails>> fields,
+                Map<GraphType, List<GraphQLTypeDetails>> operations, Map<String, List<String>> enumValues,
+                Map<String, List<String>> unionMembers, Set<String> scalars) {
+        this.types = types;
+        this.fields = fields;
+        this.operations = operations;
+        this.enumValues = enumValues;
+        this.unionMembers = unionMembers;
+        this.scalars = scalars;
+    }
+
+    /**
+     * Returns operations of the root type, fields of the root type definition come before fields of its extensions
+     *
+     * @param graphType root type
+     * @return operations with resolved output and argument types
+     */
+    public List<GraphQLTypeDetails> getOperations(GraphType graphType) {
+        return operations.getOrDefault(graphType, List.of());
+    }
+
+    /**
+     * Returns fields of an object, interface or input type with the fields of its extensions
+     *
+     * @param typeName GraphQL type name
+     * @return fields or empty list when the type has no fields
+     */
+    public List<FieldDetails> getFields(String typeName) {
+        return typeName == null ? List.of() : fields.getOrDefault(typeName, List.of());
+    }
+
+    /**
+     * @return type definition or null when there is no such type
+     */
+    public TypeDefinition<?> getType(String typeName) {
+        return types.get(typeName);
+    }
+
+    /**
+     * @return values of the enum type with the values of its extensions
+     */
+    public List<String> getEnumValues(String typeName) {
+        return enumValues.getOrDefault(typeName, List.of());
+    }
+
+    /**
+     * @return member types of the union type with the members of its extensions
+     */
+    public List<String> getUnionMembers(String typeName) {
+        return unionMembers.getOrDefault(typeName, List.of());
+    }
+
+    /**
+     * @return true if the type is a built-in or custom scalar
+     */
+    public boolean isScalar(String typeName) {
+        return scalars.contains(typeName);
+    }
+
+    /**
+     * @return number of types without scalars
+     */
+    public int size() {
+        return types.size();
+    }
+
+}
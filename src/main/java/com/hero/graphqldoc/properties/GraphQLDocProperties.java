@@ -6,15 +6,27 @@
  **/
 package com.hero.graphqldoc.properties;
 
+import com.hero.graphqldoc.enums.DiscoveryMode;
+import com.hero.graphqldoc.enums.RenderMode;
 import lombok.Data;
+import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Data
 @ConfigurationProperties(prefix = "graphql.doc")
 public class GraphQLDocProperties {
 
+    public static final String DEFAULT_GROUP = "default";
+
     private String schemaLocationPattern = "**/*.graphqls";
-    private Boolean enabled = false;
+    private Boolean enabled = true;
     private String packageName = "";
     private String title = "GraphQL Doc";
     private String docDescription = "Welcome Documentation";
@@ -26,5 +38,84 @@ public class GraphQLDocProperties {
     private String logoUrl = "assets/images/logo.png";
     private String appVersion = "v1.0.0";
     private String endpoint = "/document";
+    private Boolean asyncBuild = false;
+    private Boolean lazySections = false;
+    private Boolean search = false;
+    private RenderMode renderMode = RenderMode.PRERENDERED;
+    private Integer maxPageSize = 100;
+    private DiscoveryMode discoveryMode = DiscoveryMode.BEANS;
+    private String modelLocation = "classpath:META-INF/graphql-doc/model.json";
+    private Integer recursionDepth = 2;
+    private Boolean watch = false;
+    private String bundleDirectory;
+    private String fragmentDirectory;
+    private Boolean console = false;
+    private String graphqlEndpoint = "/graphql";
+    private Boolean stats = false;
+    private Integer statsWindow = 60;
+    private List<Group> groups = new ArrayList<>();
+
+    /**
+     * Returns settings of each documentation group by group name
+     * Settings which are not set on a group are taken from these settings, the endpoint of a group defaults to the
+     * endpoint followed by the group name. Without groups these settings are the only group named default.
+     *
+     * @return group settings in configured order
+     */
+    public Map<String, GraphQLDocProperties> resolveGroups() {
+        Map<String, GraphQLDocProperties> resolved = new LinkedHashMap<>();
+        if (groups.isEmpty()) {
+            resolved.put(DEFAULT_GROUP, this);
+            return resolved;
+        }
+        Set<String> endpoints = new HashSet<>();
+        for (Group group : groups) {
+            if (group.getName() == null || group.getName().isBlank()) {
+                throw new IllegalStateException("Name of graphql.doc.groups entries is required");
+            }
+            GraphQLDocProperties groupProperties = new GraphQLDocProperties();
+            BeanUtils.copyProperties(this, groupProperties, "groups");
+            groupProperties.setEndpoint(group.getEndpoint() == null ? endpoint + "/" + group.getName() : group.getEndpoint());
+            if (group.getSchemaLocationPattern() != null) {
+                groupProperties.setSchemaLocationPattern(group.getSchemaLocationPattern());
+            }
+            if (group.getPackageName() != null) {
+                groupProperties.setPackageName(group.getPackageName());
+            }
+            if (group.getTitle() != null) {
+                groupProperties.setTitle(group.getTitle());
+            }
+            if (group.getDocDescription() != null) {
+                groupProperties.setDocDescription(group.getDocDescription());
+            }
+            if (group.getAppVersion() != null) {
+                groupProperties.setAppVersion(group.getAppVersion());
+            }
+            if (group.getModelLocation() != null) {
+                groupProperties.setModelLocation(group.getModelLocation());
+            }
+            if (resolved.put(group.getName(), groupProperties) != null || !endpoints.add(groupProperties.getEndpoint())) {
+                throw new IllegalStateException("Name and endpoint of graphql.doc.groups entries must be unique: " + group.getName());
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Documentation of one GraphQL API, unset values are taken from the enclosing settings
+     */
+    @Data
+    public static class Group {
+
+        private String name;
+        private String endpoint;
+        private String schemaLocationPattern;
+        private String packageName;
+        private String title;
+        private String docDescription;
+        private String appVersion;
+        private String modelLocation;
+
+    }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Bundled documentation assets kept in memory with their precompressed gzip variants.
+ * Versioned paths carry the md5 hash of the content like js/theme-{hash}.js, the same format Spring MVC uses,
+ * and the hash is removed before lookup. Assets are read once, on first use. Unknown paths are not cached,
+ * so requests for missing assets can not grow the cache.
+ */
+public class DocAssetCache {
+
+    private static final String LOCATION = "pages/assets/";
+    private static final Pattern VERSION = Pattern.compile("-[0-9a-f]{32}(?=\\.[^./]+$)");
+    private final ClassLoader classLoader;
+    private final Map<String, Asset> assets = new ConcurrentHashMap<>();
+
+    public DocAssetCache(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns path of the asset with its content hash
+     *
+     * @param path asset path relative to assets folder like css/stylesheet.css
+     * @return versioned path or null when there is no such asset
+     */
+    public String versionedPath(String path) {
+        Asset asset = get(path);
+        if (asset == null) {
+            return null;
+        }
+        int extension = path.lastIndexOf('.');
+        return extension > path.lastIndexOf('/') ?
+                path.substring(0, extension) + "-" + asset.hash() + path.substring(extension) : path + "-" + asset.hash();
+    }
+
+    /**
+     * Checks if the asset was read before, so it can be returned without blocking
+     *
+     * @param path versioned or plain asset path
+     * @return true if the asset is in memory
+     */
+    public boolean isLoaded(String path) {
+        return assets.containsKey(VERSION.matcher(path).replaceFirst(""));
+    }
+
+    /**
+     * Returns the asset, reading it from the classpath on first call
+     *
+     * @param path versioned or plain asset path relative to assets folder
+     * @return asset or null when there is no such asset
+     */
+    public Asset get(String path) {
+        String plainPath = VERSION.matcher(path).replaceFirst("");
+        Asset asset = assets.get(plainPath);
+        if (asset != null) {
+            return asset;
+        }
+        asset = read(plainPath);
+        if (asset == null) {
+            return null;
+        }
+        Asset previous = assets.putIfAbsent(plainPath, asset);
+        return previous != null ? previous : asset;
+    }
+
+    private Asset read(String path) {
+        if (path.isEmpty() || path.startsWith("/") || path.contains("\\") || !path.equals(StringUtils.cleanPath(path)) || path.contains("..")) {
+            return null;
+        }
+        byte[] body = readBytes(LOCATION + path);
+        if (body == null) {
+            return null;
+        }
+        MediaType mediaType = MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return new Asset(body, readBytes(LOCATION + path + ".gz"), mediaType, DigestUtils.md5DigestAsHex(body));
+    }
+
+    private byte[] readBytes(String resource) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+            return inputStream == null ? null : inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Content of an asset
+     *
+     * @param gzipBody precompressed content or null when the asset has no gzip variant
+     */
+    public record Asset(byte[] body, byte[] gzipBody, MediaType mediaType, String hash) {
+    }
+
+}
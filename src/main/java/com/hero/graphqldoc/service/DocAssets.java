@@ -0,0 +1,63 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates content hashed urls of documentation assets for templates.
+ * Versioned paths are looked up from the resource handling of the web stack, Spring MVC or the reactive asset handler.
+ */
+public class DocAssets {
+
+    private static final String ASSETS_PATH = "/assets/";
+    private final String contextPath;
+    private final String endpoint;
+    private final UnaryOperator<String> versionedPaths;
+
+    /**
+     * @param versionedPaths returns versioned lookup path of an asset lookup path, or null when it is not versioned
+     */
+    public DocAssets(String contextPath, String endpoint, UnaryOperator<String> versionedPaths) {
+        this.contextPath = contextPath;
+        this.endpoint = endpoint;
+        this.versionedPaths = versionedPaths;
+    }
+
+    /**
+     * Returns url of given asset
+     *
+     * @param path asset path relative to assets folder like css/stylesheet.css
+     * @return asset url with content hash
+     */
+    public String url(String path) {
+        String lookupPath = endpoint + ASSETS_PATH + path;
+        String versioned = versionedPaths == null ? null : versionedPaths.apply(lookupPath);
+        return contextPath + (versioned != null ? versioned : lookupPath);
+    }
+
+    /**
+     * Returns url of an application path like the GraphQL endpoint
+     *
+     * @param path path like /graphql or an absolute url
+     * @return path with the context path of the application
+     */
+    public String applicationUrl(String path) {
+        return path.startsWith("/") ? contextPath + path : path;
+    }
+
+    /**
+     * Returns asset url for bundled assets and given url for others
+     *
+     * @param url configured url like assets/images/logo.png
+     * @return asset url
+     */
+    public String urlOrSelf(String url) {
+        return url != null && url.startsWith(ASSETS_PATH.substring(1)) ? url(url.substring(ASSETS_PATH.length() - 1)) : url;
+    }
+
+}
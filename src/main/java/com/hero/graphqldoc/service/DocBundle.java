@@ -0,0 +1,102 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.RenderedPage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Rendered documentation page written to a local file and memory-mapped.
+ * The page and its gzip variant are served from the mapped file, so they are not kept in the Java heap. The file is
+ * deleted when the bundle is closed, readers which still use the mapping keep reading it until they are done.
+ */
+@Slf4j
+public final class DocBundle {
+
+    private static final String PREFIX = "graphql-doc-";
+    private static final String SUFFIX = ".bundle";
+    private final Path file;
+    private final MappedByteBuffer mapped;
+    private final int bodyLength;
+    private final String etag;
+
+    private DocBundle(Path file, MappedByteBuffer mapped, int bodyLength, String etag) {
+        this.file = file;
+        this.mapped = mapped;
+        this.bodyLength = bodyLength;
+        this.etag = etag;
+    }
+
+    /**
+     * Writes the page and its gzip variant to a new file in the directory and maps the file
+     *
+     * @param directory bundle directory, created when missing
+     * @param page      rendered page
+     * @return mapped bundle
+     */
+    static DocBundle write(Path directory, RenderedPage page) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, PREFIX, SUFFIX);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer[] content = {ByteBuffer.wrap(page.getBody()), ByteBuffer.wrap(page.getGzipBody())};
+            long size = (long) page.getBody().length + page.getGzipBody().length;
+            long written = 0;
+            while (written < size) {
+                written += channel.write(content);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new DocBundle(file, mapped, page.getBody().length, page.getEtag());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * @return read only view of the page, each call returns an independent view
+     */
+    public ByteBuffer getBody() {
+        return mapped.duplicate().limit(bodyLength).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * @return read only view of the gzip encoded page, each call returns an independent view
+     */
+    public ByteBuffer getGzipBody() {
+        return mapped.duplicate().position(bodyLength).slice().asReadOnlyBuffer();
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Deletes the bundle file
+     * The mapping stays valid until it is garbage collected, so requests being served are not affected
+     */
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("GraphQL documentation bundle {} could not be deleted", file, e);
+            file.toFile().deleteOnExit();
+        }
+    }
+
+}
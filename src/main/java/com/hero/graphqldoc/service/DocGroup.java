@@ -0,0 +1,235 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.builder.DocFragmentStore;
+import com.hero.graphqldoc.builder.DocModelBuilder;
+import com.hero.graphqldoc.builder.DocModelCache;
+import com.hero.graphqldoc.builder.DocModelStore;
+import com.hero.graphqldoc.discovery.BeanResolverDiscovery;
+import com.hero.graphqldoc.discovery.ClasspathResolverDiscovery;
+import com.hero.graphqldoc.discovery.ResolverDiscovery;
+import com.hero.graphqldoc.enums.BuildState;
+import com.hero.graphqldoc.enums.DiscoveryMode;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.parser.SchemaDefinitions;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.leangen.geantyref.AnnotationFormatException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Documentation of one group with its own settings, snapshot, build cache and schema watcher.
+ * Groups are built and reloaded independently, a change or failure in one group does not affect the others.
+ */
+@Slf4j
+public class DocGroup {
+
+    private static final String SCHEMA_LOCATION_PROPERTY = "graphql.tools.schema-location-pattern";
+    private static final String DEFAULT_SCHEMA_LOCATION = "**/*.graphqls";
+    private static final Map<String, DocModelCache> RESTART_CACHES = new ConcurrentHashMap<>();
+    private final String name;
+    private final GraphQLDocProperties properties;
+    private final ApplicationContext applicationContext;
+    private final AtomicReference<DocSnapshot> snapshot = new AtomicReference<>(DocSnapshot.BUILDING);
+    private SchemaFileWatcher watcher;
+
+    DocGroup(String name, GraphQLDocProperties properties, ApplicationContext applicationContext) {
+        this.name = name;
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Builds or loads the model, publishes it and starts watching schema files in watch mode
+     */
+    void init() throws IOException, AnnotationFormatException {
+        publish(loadOrBuild());
+        startWatcher();
+    }
+
+    /**
+     * Initializes the group and marks it as failed when the build fails
+     *
+     * @return true if the group is ready
+     */
+    boolean initOrFail() {
+        try {
+            init();
+            return true;
+        } catch (Exception e) {
+            snapshot.set(DocSnapshot.FAILED);
+            log.error("GraphQL documentation of group {} could not be built", name, e);
+            return false;
+        }
+    }
+
+    synchronized void close() {
+        snapshot.get().release();
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                log.debug("GraphQL schema watcher of group {} could not be closed", name, e);
+            }
+        }
+    }
+
+    /**
+     * Makes the model and its lookup tables available to readers
+     */
+    private void publish(GraphQLDocModel built) {
+        snapshot.getAndSet(DocSnapshot.ready(built, Boolean.TRUE.equals(properties.getSearch()))).release();
+    }
+
+    /**
+     * Uses the pre-built model when it is available and up to date
+     * The pre-built model is not used in watch mode, since it has no incremental build state
+     */
+    private GraphQLDocModel loadOrBuild() throws IOException, AnnotationFormatException {
+        GraphQLDocModel loaded = isWatch() ? null : DocModelStore.load(properties, applicationContext, createResolverDiscovery());
+        if (loaded != null) {
+            return loaded;
+        }
+        return build();
+    }
+
+    private GraphQLDocModel build() throws IOException, AnnotationFormatException {
+        DocModelBuilder builder = new DocModelBuilder(properties, applicationContext, createResolverDiscovery());
+        if (applicationContext instanceof ConfigurableApplicationContext configurableContext) {
+            builder.withStartup(configurableContext.getApplicationStartup());
+        }
+        TypeDefinitionRegistry servedSchema = isWatch() ? null : servedSchema();
+        if (servedSchema != null) {
+            builder.withSchema(servedSchema);
+        }
+        if (isWatch()) {
+            builder.withCache(RESTART_CACHES.computeIfAbsent(name + "|" + properties.getSchemaLocationPattern() + "|" + properties.getPackageName(),
+                    key -> new DocModelCache()));
+        }
+        if (StringUtils.hasText(properties.getFragmentDirectory())) {
+            builder.withFragments(new DocFragmentStore(Path.of(properties.getFragmentDirectory()).resolve(name), properties.getRecursionDepth()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Rebuilds the operations and types affected by changed schema files and classes
+     * The current model is kept when the rebuild fails
+     */
+    public synchronized void reload() {
+        if (getState() == BuildState.BUILDING) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            publish(build());
+            log.info("GraphQL documentation of group {} reloaded in {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("GraphQL documentation of group {} could not be reloaded, the previous model is kept", name, e);
+        }
+    }
+
+    /**
+     * Watches directories of the schema files in watch mode
+     * Schema files inside jars are not watched
+     */
+    private synchronized void startWatcher() {
+        if (!isWatch() || watcher != null) {
+            return;
+        }
+        try {
+            Set<Path> directories = SchemaFileWatcher.directories(applicationContext.getResources(
+                    ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + properties.getSchemaLocationPattern()));
+            if (!directories.isEmpty()) {
+                watcher = new SchemaFileWatcher(directories, properties.getSchemaLocationPattern(), this::reload);
+            }
+        } catch (IOException e) {
+            log.warn("GraphQL schema files of group {} could not be watched", name, e);
+        }
+    }
+
+    /**
+     * Returns registry of the schema served by the application when the group documents the same schema files
+     * A TypeDefinitionRegistry bean is used as it is, the registry of a GraphQLSchema bean is read from its types
+     *
+     * @return served schema or null when schema files must be parsed
+     */
+    private TypeDefinitionRegistry servedSchema() {
+        String servedPattern = applicationContext.getEnvironment().getProperty(SCHEMA_LOCATION_PROPERTY, DEFAULT_SCHEMA_LOCATION);
+        if (!servedPattern.equals(properties.getSchemaLocationPattern())) {
+            return null;
+        }
+        TypeDefinitionRegistry registry = applicationContext.getBeanProvider(TypeDefinitionRegistry.class).getIfUnique();
+        if (registry != null) {
+            return registry;
+        }
+        GraphQLSchema schema = applicationContext.getBeanProvider(GraphQLSchema.class).getIfUnique();
+        registry = schema == null ? null : SchemaDefinitions.registry(schema);
+        if (schema != null && registry == null) {
+            log.debug("GraphQL schema bean has types without schema definitions, schema files of group {} are parsed", name);
+        }
+        return registry;
+    }
+
+    private boolean isWatch() {
+        return Boolean.TRUE.equals(properties.getWatch());
+    }
+
+    /**
+     * Creates resolver discovery for configured mode
+     * Bean discovery falls back to classpath scan when there is no annotated resolver bean. Without a package name the
+     * auto-configuration packages of the application are scanned, the whole classpath is never scanned.
+     */
+    private ResolverDiscovery createResolverDiscovery() {
+        List<String> packageNames = StringUtils.hasText(properties.getPackageName()) ? List.of(properties.getPackageName())
+                : AutoConfigurationPackages.has(applicationContext) ? AutoConfigurationPackages.get(applicationContext) : List.of();
+        ResolverDiscovery scan = new ClasspathResolverDiscovery(applicationContext, packageNames);
+        if (properties.getDiscoveryMode() == DiscoveryMode.BEANS) {
+            return new BeanResolverDiscovery(applicationContext, properties.getPackageName(), scan);
+        }
+        return scan;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public GraphQLDocProperties getProperties() {
+        return properties;
+    }
+
+    public BuildState getState() {
+        return snapshot.get().getState();
+    }
+
+    /**
+     * Returns the current snapshot
+     * Readers should take the snapshot once and use it for the whole request
+     *
+     * @return current snapshot
+     */
+    public DocSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+}
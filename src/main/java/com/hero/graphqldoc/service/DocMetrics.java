@@ -0,0 +1,49 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.enums.RenderMode;
+
+/**
+ * Receives measurements of documentation rendering and requests.
+ * Measurements are ignored by default, they are recorded as Micrometer metrics when a meter registry is available.
+ */
+public interface DocMetrics {
+
+    String PAGE = "page";
+    String ASSET = "asset";
+    DocMetrics NONE = new DocMetrics() {
+    };
+
+    /**
+     * Called after the documentation page is rendered
+     *
+     * @param renderMode render mode of the page
+     * @param nanos      render duration
+     */
+    default void pageRendered(RenderMode renderMode, long nanos) {
+    }
+
+    /**
+     * Called when the pre-rendered page is requested
+     *
+     * @param hit true if the page of the current snapshot was already rendered
+     */
+    default void pageCache(boolean hit) {
+    }
+
+    /**
+     * Called after a documentation page or asset response is completed
+     *
+     * @param resource    {@link #PAGE} or {@link #ASSET}
+     * @param notModified true if a conditional request was answered with 304
+     * @param bytes       bytes written to the response body
+     */
+    default void served(String resource, boolean notModified, long bytes) {
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.GraphQLObject;
+import com.hero.graphqldoc.models.NavigationItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Name keyed lookup tables and navigation tree of a documentation model for the JSON API.
+ * Operations are keyed by operation type and name, so a query and a mutation with the same name are both found.
+ * Tables are filled in the constructor and only read afterwards, so an index can be shared by concurrent requests.
+ */
+public class DocModelIndex {
+
+    private final List<NavigationItem> groups = new ArrayList<>();
+    private final List<NavigationItem> types = new ArrayList<>();
+    private final Map<String, GraphQLObject> groupsByKey;
+    private final Map<String, GraphQLMethodObject> operations = new LinkedHashMap<>();
+    private final Map<String, GraphQLClassFields> typesByName = new HashMap<>();
+
+    public DocModelIndex(GraphQLDocModel model) {
+        groupsByKey = model.getDetails();
+        for (Map.Entry<String, GraphQLObject> group : model.getDetails().entrySet()) {
+            List<NavigationItem> children = new ArrayList<>();
+            for (GraphQLMethodObject operation : group.getValue().getObjects()) {
+                String key = key(operation.getOperationType(), operation.getName());
+                operations.putIfAbsent(key, operation);
+                children.add(new NavigationItem(key, operation.getName(), null, null));
+            }
+            groups.add(new NavigationItem(group.getKey(), group.getValue().getKey(), children, null));
+        }
+        for (Map.Entry<String, GraphQLClassFields> type : model.getObjectTypes().entrySet()) {
+            String name = model.getGraphQLToJavaMap().get(type.getKey());
+            typesByName.putIfAbsent(name, type.getValue());
+            types.add(new NavigationItem(type.getKey(), name, null, type.getValue().getKind()));
+        }
+    }
+
+    /**
+     * Returns navigation tree with a node for each resolver group and a "Schemas" node for types
+     *
+     * @return navigation tree
+     */
+    public List<NavigationItem> getNavigation() {
+        List<NavigationItem> navigation = new ArrayList<>(groups);
+        navigation.add(new NavigationItem("idocs_schemas", "Schemas", types, null));
+        return navigation;
+    }
+
+    public List<NavigationItem> getTypes() {
+        return Collections.unmodifiableList(types);
+    }
+
+    public GraphQLObject getGroup(String key) {
+        return groupsByKey.get(key);
+    }
+
+    public int getOperationCount() {
+        return operations.size();
+    }
+
+    /**
+     * Returns operation for operation type and name
+     *
+     * @param operationType QUERY, MUTATION or SUBSCRIPTION
+     * @param name          GraphQL operation name
+     * @return operation or null when there is no such operation
+     */
+    public GraphQLMethodObject getOperation(String operationType, String name) {
+        return operations.get(key(operationType, name));
+    }
+
+    public Collection<GraphQLMethodObject> getOperations() {
+        return Collections.unmodifiableCollection(operations.values());
+    }
+
+    /**
+     * Returns the key of an operation like QUERY:getUser
+     *
+     * @param operationType QUERY, MUTATION or SUBSCRIPTION
+     * @param name          GraphQL operation name
+     * @return operation key
+     */
+    public static String key(String operationType, String name) {
+        return operationType + ":" + name;
+    }
+
+    /**
+     * Returns type details for GraphQL type name
+     */
+    public GraphQLClassFields getType(String name) {
+        return typesByName.get(name);
+    }
+
+}
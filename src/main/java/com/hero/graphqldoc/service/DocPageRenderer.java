@@ -0,0 +1,178 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.enums.BuildState;
+import com.hero.graphqldoc.enums.RenderMode;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.RenderedPage;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import org.springframework.util.DigestUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Renders the documentation pages outside of a request.
+ * The documentation page is rendered once per model and kept as plain and gzip encoded bytes.
+ */
+public class DocPageRenderer {
+
+    private final ITemplateEngine templateEngine;
+    private final GraphQLDocProperties properties;
+    private final DocAssets assets;
+    private final DocMetrics metrics;
+
+    public DocPageRenderer(ITemplateEngine templateEngine, GraphQLDocProperties properties, DocAssets assets) {
+        this(templateEngine, properties, assets, DocMetrics.NONE);
+    }
+
+    public DocPageRenderer(ITemplateEngine templateEngine, GraphQLDocProperties properties, DocAssets assets, DocMetrics metrics) {
+        this.templateEngine = templateEngine;
+        this.properties = properties;
+        this.assets = assets;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Renders documentation page of given model
+     *
+     * @param model documentation model
+     * @return rendered page with its gzip variant and strong etag
+     */
+    public RenderedPage render(GraphQLDocModel model) {
+        long start = System.nanoTime();
+        byte[] body = templateEngine.process("index.html", createPageContext(model)).getBytes(StandardCharsets.UTF_8);
+        RenderedPage page = new RenderedPage(body, gzip(body), "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        metrics.pageRendered(RenderMode.PRERENDERED, System.nanoTime() - start);
+        return page;
+    }
+
+    /**
+     * Renders documentation page of given model directly to the output stream.
+     * Output is flushed in chunks while rendering, so header and navigation are sent before the sections are rendered.
+     * The output stream is flushed but not closed.
+     *
+     * @param model        documentation model
+     * @param outputStream response stream
+     */
+    public void stream(GraphQLDocModel model, OutputStream outputStream) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new ChunkFlushingWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        templateEngine.process("index.html", createPageContext(model), writer);
+        writer.flush();
+        metrics.pageRendered(RenderMode.STREAMING, System.nanoTime() - start);
+    }
+
+    /**
+     * Renders page shown while documentation is building or after the build failed
+     *
+     * @param state build state
+     * @return html page
+     */
+    public byte[] renderBuildingPage(BuildState state) {
+        Context context = createContext();
+        context.setVariable("state", state);
+        return templateEngine.process("building.html", context).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates context with documentation model
+     */
+    private Context createPageContext(GraphQLDocModel model) {
+        Context context = createContext();
+        context.setVariable("details", model.getDetails());
+        context.setVariable("objectTypes", model.getObjectTypes());
+        context.setVariable("graphQLToJavaMap", model.getGraphQLToJavaMap());
+        context.setVariable("consoleEndpoint", Boolean.TRUE.equals(properties.getConsole()) ?
+                assets.applicationUrl(properties.getGraphqlEndpoint()) : null);
+        return context;
+    }
+
+    /**
+     * Creates context with document properties and social links
+     */
+    private Context createContext() {
+        Context context = new Context();
+        context.setVariable("title", properties.getTitle());
+        context.setVariable("supportLink", properties.getSupportLink());
+        context.setVariable("docdescription", properties.getDocDescription());
+        context.setVariable("instagramLink", properties.getInstagramLink());
+        context.setVariable("linkedinLink", properties.getLinkedinLink());
+        context.setVariable("twitterLink", properties.getTwitterLink());
+        context.setVariable("siteUrl", properties.getSiteUrl());
+        context.setVariable("logoUrl", assets.urlOrSelf(properties.getLogoUrl()));
+        context.setVariable("assets", assets);
+        context.setVariable("appVersion", properties.getAppVersion());
+        context.setVariable("lazySections", Boolean.TRUE.equals(properties.getLazySections()));
+        context.setVariable("search", Boolean.TRUE.equals(properties.getSearch()));
+        context.setVariable("stats", Boolean.TRUE.equals(properties.getStats()));
+        return context;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Buffers rendered output and flushes it to the client every {@link #CHUNK_SIZE} characters.
+     * Closing the writer does not close the response stream.
+     */
+    private static class ChunkFlushingWriter extends Writer {
+
+        private static final int CHUNK_SIZE = 8 * 1024;
+        private final Writer target;
+        private final char[] buffer = new char[CHUNK_SIZE];
+        private int length;
+
+        ChunkFlushingWriter(Writer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int count) throws IOException {
+            while (count > 0) {
+                int copied = Math.min(count, CHUNK_SIZE - length);
+                System.arraycopy(chars, offset, buffer, length, copied);
+                length += copied;
+                offset += copied;
+                count -= copied;
+                if (length == CHUNK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.write(buffer, 0, length);
+            length = 0;
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+    }
+
+}
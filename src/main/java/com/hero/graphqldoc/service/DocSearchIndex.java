@@ -0,0 +1,297 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLField;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.GraphQLObject;
+import com.hero.graphqldoc.models.SearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over operation names and descriptions, type names and descriptions, and field names and descriptions.
+ * Names are indexed as a whole and as camelCase tokens, so a query word matches a name, a token of a name or a prefix
+ * of them. Query words of four or more characters also match terms within one typo, or two typos for long words.
+ * All words of a query must match, names score higher than descriptions and exact matches higher than prefixes.
+ */
+public class DocSearchIndex {
+
+    private static final String OPERATION = "operation";
+    private static final String TYPE = "type";
+    private static final String FIELD = "field";
+    private static final Pattern WORDS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final int EXACT = 10;
+    private static final int PREFIX = 6;
+    private static final int TYPO = 3;
+    private final List<SearchResult> documents = new ArrayList<>();
+    private final int[] ranks;
+    private final String[] terms;
+    private final int[][] postings;
+
+    public DocSearchIndex(GraphQLDocModel model) {
+        Map<String, Postings> index = new HashMap<>();
+        List<Integer> documentRanks = new ArrayList<>();
+        for (GraphQLObject group : model.getDetails().values()) {
+            for (GraphQLMethodObject operation : group.getObjects()) {
+                int document = add(new SearchResult(OPERATION, operation.getName(), null, operation.getDescription(),
+                        "#" + operation.getOperationType() + "_" + operation.getName()), 0, documentRanks);
+                addName(index, document, operation.getName(), true);
+                addText(index, document, operation.getOperation());
+                addText(index, document, operation.getDescription());
+            }
+        }
+        for (Map.Entry<String, GraphQLClassFields> type : model.getObjectTypes().entrySet()) {
+            String typeName = model.getGraphQLToJavaMap().get(type.getKey());
+            String anchor = "#" + typeName + "_c";
+            int document = add(new SearchResult(TYPE, typeName, null, type.getValue().getDescription(), anchor), 1, documentRanks);
+            addName(index, document, typeName, true);
+            addText(index, document, type.getValue().getDescription());
+            for (GraphQLField field : type.getValue().getFields()) {
+                int fieldDocument = add(new SearchResult(FIELD, field.getName(), typeName, field.getDescription(), anchor), 2, documentRanks);
+                addName(index, fieldDocument, field.getName(), true);
+                addName(index, fieldDocument, typeName, false);
+                addText(index, fieldDocument, field.getDescription());
+            }
+        }
+        ranks = documentRanks.stream().mapToInt(Integer::intValue).toArray();
+        terms = index.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+        postings = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            postings[i] = index.get(terms[i]).toArray();
+        }
+    }
+
+    /**
+     * Returns best matching operations, types and fields
+     *
+     * @param query search words
+     * @param limit maximum number of results
+     * @return results ordered by score
+     */
+    public List<SearchResult> search(String query, int limit) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        int[] scores = null;
+        for (String word : words) {
+            int[] wordScores = new int[documents.size()];
+            match(word, wordScores);
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                for (int i = 0; i < scores.length; i++) {
+                    scores[i] = scores[i] == 0 || wordScores[i] == 0 ? 0 : scores[i] + wordScores[i];
+                }
+            }
+        }
+        int[] finalScores = scores;
+        Comparator<Integer> order = Comparator.<Integer>comparingInt(i -> -finalScores[i])
+                .thenComparingInt(i -> ranks[i])
+                .thenComparingInt(i -> documents.get(i).getName().length())
+                .thenComparing(i -> documents.get(i).getName());
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, order.reversed());
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] > 0 && (best.size() < limit || order.compare(i, best.peek()) < 0)) {
+                best.add(i);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        List<Integer> matches = new ArrayList<>(best);
+        matches.sort(order);
+        return matches.stream().map(documents::get).toList();
+    }
+
+    /**
+     * Scores documents containing terms matching the word
+     */
+    private void match(String word, int[] scores) {
+        int start = Arrays.binarySearch(terms, word);
+        for (int i = start >= 0 ? start : -start - 1; i < terms.length && terms[i].startsWith(word); i++) {
+            score(i, terms[i].length() == word.length() ? EXACT : PREFIX, scores);
+        }
+        if (word.length() < MIN_TYPO_LENGTH) {
+            return;
+        }
+        int maxDistance = word.length() >= 8 ? 2 : 1;
+        int[][] rows = new int[3][word.length() + maxDistance + 1];
+        matchTypos(word, word.substring(0, 1), maxDistance, rows, scores);
+        if (word.charAt(1) != word.charAt(0)) {
+            matchTypos(word, word.substring(1, 2), maxDistance, rows, scores);
+        }
+    }
+
+    /**
+     * Scores documents containing terms within the max distance of the word, only terms starting with the given
+     * character are compared. Typos in the first character are rare, so the search scans terms starting with the first
+     * or the second character of the word to still match swapped first characters.
+     */
+    private void matchTypos(String word, String first, int maxDistance, int[][] rows, int[] scores) {
+        int start = Arrays.binarySearch(terms, first);
+        for (int i = start >= 0 ? start : -start - 1; i < terms.length && terms[i].startsWith(first); i++) {
+            String term = terms[i];
+            if (term.length() + maxDistance < word.length() || term.startsWith(word)) {
+                continue;
+            }
+            int length = Math.min(term.length(), word.length() + maxDistance);
+            if (distance(word, term, length, maxDistance, rows) <= maxDistance) {
+                score(i, TYPO, scores);
+            }
+        }
+    }
+
+    private void score(int term, int nameScore, int[] scores) {
+        for (int posting : postings[term]) {
+            int document = posting >>> 1;
+            int score = (posting & 1) == 1 ? nameScore : Math.max(1, nameScore / 3);
+            if (score > scores[document]) {
+                scores[document] = score;
+            }
+        }
+    }
+
+    /**
+     * Returns optimal string alignment distance between the word and the first characters of the term
+     * Typos in a prefix of a longer term are matched by comparing with the best length of the prefix
+     *
+     * @return distance, or a value greater than max distance when it is exceeded
+     */
+    private static int distance(String word, String term, int length, int maxDistance, int[][] rows) {
+        int[] previous2 = rows[0];
+        int[] previous = rows[1];
+        int[] current = rows[2];
+        for (int j = 0; j <= length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= word.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= length; j++) {
+                int cost = word.charAt(i - 1) == term.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && word.charAt(i - 1) == term.charAt(j - 2) && word.charAt(i - 2) == term.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return rowMin;
+            }
+            int[] swap = previous2;
+            previous2 = previous;
+            previous = current;
+            current = swap;
+        }
+        int best = previous[length];
+        if (length < term.length()) {
+            for (int j = Math.max(0, word.length() - maxDistance); j < length; j++) {
+                best = Math.min(best, previous[j]);
+            }
+        }
+        return best;
+    }
+
+    private int add(SearchResult result, int rank, List<Integer> documentRanks) {
+        documents.add(result);
+        documentRanks.add(rank);
+        return documents.size() - 1;
+    }
+
+    /**
+     * Indexes a name as a whole and as camelCase tokens
+     * Names of parent types are indexed with the score of descriptions
+     */
+    private static void addName(Map<String, Postings> index, int document, String name, boolean ownName) {
+        if (name == null || name.isEmpty()) {
+            return;
+        }
+        int posting = ownName ? document << 1 | 1 : document << 1;
+        index.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new Postings()).add(posting);
+        int start = 0;
+        for (int i = 0; i <= name.length(); i++) {
+            if (i == name.length() || !Character.isLetterOrDigit(name.charAt(i)) || i > start && isTokenStart(name, i)) {
+                if (i > start) {
+                    index.computeIfAbsent(name.substring(start, i).toLowerCase(Locale.ROOT), key -> new Postings()).add(posting);
+                }
+                start = i < name.length() && Character.isLetterOrDigit(name.charAt(i)) ? i : i + 1;
+            }
+        }
+    }
+
+    /**
+     * Checks if a camelCase token starts at the index, like Name in userName, Name in URLName or 2 in address2
+     */
+    private static boolean isTokenStart(String name, int index) {
+        char previous = name.charAt(index - 1);
+        char current = name.charAt(index);
+        return Character.isLowerCase(previous) && Character.isUpperCase(current) ||
+                Character.isUpperCase(previous) && Character.isUpperCase(current) && index + 1 < name.length() && Character.isLowerCase(name.charAt(index + 1)) ||
+                Character.isDigit(previous) != Character.isDigit(current);
+    }
+
+    private static void addText(Map<String, Postings> index, int document, String text) {
+        for (String word : words(text)) {
+            index.computeIfAbsent(word, key -> new Postings()).add(document << 1);
+        }
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : WORDS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Growing list of documents containing a term, a document is added once for names and once for text
+     */
+    private static class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            for (int i = size - 1; i >= 0 && values[i] >>> 1 == value >>> 1; i--) {
+                if (values[i] == value) {
+                    return;
+                }
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+    }
+
+}
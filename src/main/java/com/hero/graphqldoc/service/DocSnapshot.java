@@ -0,0 +1,226 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.builder.DocModelStore;
+import com.hero.graphqldoc.enums.BuildState;
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLField;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.GraphQLObject;
+import com.hero.graphqldoc.models.RenderedPage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Build state and documentation model of one build with its lookup tables and rendered page.
+ * A snapshot is not changed after it is published, a rebuild publishes a new snapshot. Readers take the current
+ * snapshot once per request, so a request never sees parts of two builds.
+ */
+public final class DocSnapshot {
+
+    static final DocSnapshot BUILDING = new DocSnapshot(BuildState.BUILDING, null, false);
+    static final DocSnapshot FAILED = new DocSnapshot(BuildState.FAILED, null, false);
+    private final BuildState state;
+    private final GraphQLDocModel model;
+    private final DocModelIndex index;
+    private final DocSearchIndex searchIndex;
+    private volatile RenderedPage page;
+    private volatile DocBundle bundle;
+    private boolean released;
+    private volatile long modelBytes = -1;
+
+    private DocSnapshot(BuildState state, GraphQLDocModel model, boolean search) {
+        this.state = state;
+        this.model = model;
+        this.index = model == null ? null : new DocModelIndex(model);
+        this.searchIndex = model == null || !search ? null : new DocSearchIndex(model);
+    }
+
+    /**
+     * Creates snapshot of a built model
+     * The whole model is copied into unmodifiable collections, so operations and types shared with build caches and
+     * the fragment store are not reachable from the snapshot. The given model is not changed.
+     *
+     * @param built  documentation model
+     * @param search true to create the search index
+     * @return ready snapshot
+     */
+    static DocSnapshot ready(GraphQLDocModel built, boolean search) {
+        GraphQLDocModel model = new GraphQLDocModel();
+        model.setFingerprint(built.getFingerprint());
+        model.setSourceClasses(List.copyOf(built.getSourceClasses()));
+        model.setDetails(copy(built.getDetails(), DocSnapshot::copy));
+        model.setObjectTypes(copy(built.getObjectTypes(), DocSnapshot::copy));
+        model.setGraphQLToJavaMap(copy(built.getGraphQLToJavaMap(), UnaryOperator.identity()));
+        return new DocSnapshot(BuildState.READY, model, search);
+    }
+
+    private static <T> Map<String, T> copy(Map<String, T> values, UnaryOperator<T> copy) {
+        Map<String, T> copied = new LinkedHashMap<>();
+        values.forEach((key, value) -> copied.put(key, copy.apply(value)));
+        return Collections.unmodifiableMap(copied);
+    }
+
+    private static GraphQLObject copy(GraphQLObject object) {
+        GraphQLObject copied = new GraphQLObject();
+        copied.setDescription(object.getDescription());
+        copied.setKey(object.getKey());
+        copied.setObjects(object.getObjects().stream().map(DocSnapshot::copy).toList());
+        return copied;
+    }
+
+    private static GraphQLMethodObject copy(GraphQLMethodObject method) {
+        GraphQLMethodObject copied = new GraphQLMethodObject();
+        copied.setDescription(method.getDescription());
+        copied.setOperation(method.getOperation());
+        copied.setName(method.getName());
+        copied.setOperationType(method.getOperationType());
+        copied.setMethodName(method.getMethodName());
+        copied.setOutputJson(method.getOutputJson());
+        copied.setOutputName(method.getOutputName());
+        copied.setInputJson(method.getInputJson());
+        copied.setAuthString(method.getAuthString());
+        return copied;
+    }
+
+    private static GraphQLClassFields copy(GraphQLClassFields type) {
+        GraphQLClassFields copied = new GraphQLClassFields();
+        copied.setDescription(type.getDescription());
+        copied.setName(type.getName());
+        copied.setKind(type.getKind());
+        copied.setFields(type.getFields().stream().map(DocSnapshot::copy).toList());
+        copied.setValues(List.copyOf(type.getValues()));
+        copied.setMembers(List.copyOf(type.getMembers()));
+        copied.setInterfaces(List.copyOf(type.getInterfaces()));
+        return copied;
+    }
+
+    private static GraphQLField copy(GraphQLField field) {
+        GraphQLField copied = new GraphQLField();
+        copied.setRequired(field.getRequired());
+        copied.setExample(field.getExample());
+        copied.setDescription(field.getDescription());
+        copied.setName(field.getName());
+        copied.setType(field.getType());
+        copied.setJavaType(field.getJavaType());
+        copied.setListType(field.getListType());
+        copied.setNotNull(field.getNotNull());
+        return copied;
+    }
+
+    public BuildState getState() {
+        return state;
+    }
+
+    /**
+     * @return model or null when snapshot is not ready
+     */
+    public GraphQLDocModel getModel() {
+        return model;
+    }
+
+    /**
+     * @return lookup tables or null when snapshot is not ready
+     */
+    public DocModelIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return search index or null when snapshot is not ready or search is not enabled
+     */
+    public DocSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Checks if the page of the snapshot is rendered
+     *
+     * @return true if the page or its bundle was rendered before
+     */
+    public boolean isPageRendered() {
+        return page != null || bundle != null;
+    }
+
+    /**
+     * Returns approximate bytes retained by the snapshot
+     * Counts the serialized model and the rendered page with its gzip variant, a memory-mapped bundle is not counted
+     *
+     * @return retained bytes or 0 when snapshot is not ready
+     */
+    public long getRetainedBytes() {
+        if (model == null) {
+            return 0;
+        }
+        long size = modelBytes;
+        if (size < 0) {
+            size = DocModelStore.size(model);
+            modelBytes = size;
+        }
+        RenderedPage current = page;
+        return current == null ? size : size + current.getBody().length + current.getGzipBody().length;
+    }
+
+    /**
+     * Returns the rendered documentation page of the snapshot
+     * The page is rendered on first call without locking, concurrent first calls render the same page
+     *
+     * @param pageRenderer page renderer
+     * @return rendered page or null when snapshot is not ready
+     */
+    public RenderedPage getPage(DocPageRenderer pageRenderer) {
+        RenderedPage current = page;
+        if (current == null && model != null) {
+            current = pageRenderer.render(model);
+            page = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the page of the snapshot written to a memory-mapped bundle
+     * The page is rendered and written on first call, the rendered bytes are not kept in the heap
+     *
+     * @param pageRenderer page renderer
+     * @param directory    bundle directory
+     * @return bundle or null when snapshot is not ready
+     */
+    public DocBundle getBundle(DocPageRenderer pageRenderer, Path directory) throws IOException {
+        DocBundle current = bundle;
+        if (current != null || model == null) {
+            return current;
+        }
+        synchronized (this) {
+            if (bundle == null) {
+                bundle = DocBundle.write(directory, pageRenderer.render(model));
+                if (released) {
+                    bundle.delete();
+                }
+            }
+            return bundle;
+        }
+    }
+
+    /**
+     * Deletes the bundle file after the snapshot is replaced, a bundle written later is deleted right away
+     */
+    synchronized void release() {
+        released = true;
+        if (bundle != null) {
+            bundle.delete();
+        }
+    }
+
+}
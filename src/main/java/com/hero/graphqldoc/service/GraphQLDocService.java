@@ -0,0 +1,164 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.enums.BuildState;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import io.leangen.geantyref.AnnotationFormatException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the documentation models of all groups and publishes each of them as an immutable snapshot.
+ * Readers never lock, a build or reload creates a new snapshot and swaps it in.
+ * Groups are built in parallel, a failing group is marked as failed without affecting the others.
+ * In async mode the models are built on background threads after the context is refreshed.
+ * In watch mode each group is rebuilt incrementally when its schema files change, and the state of the previous build
+ * is kept in a static cache, so a devtools restart only rebuilds what changed.
+ */
+@Slf4j
+public class GraphQLDocService implements ApplicationListener<ContextRefreshedEvent> {
+
+    private final GraphQLDocProperties properties;
+    private final ApplicationContext applicationContext;
+    private final Map<String, DocGroup> groups = new LinkedHashMap<>();
+    private ExecutorService executor;
+
+    public GraphQLDocService(GraphQLDocProperties properties, ApplicationContext applicationContext) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        properties.resolveGroups().forEach((name, groupProperties) ->
+                groups.put(name, new DocGroup(name, groupProperties, applicationContext)));
+    }
+
+    /**
+     * Builds the models on the startup thread unless async build is enabled
+     * A single group fails the startup when its build fails, multiple groups only when all of them fail
+     */
+    @PostConstruct
+    private void init() throws IOException, AnnotationFormatException {
+        if (Boolean.TRUE.equals(properties.getAsyncBuild())) {
+            return;
+        }
+        if (groups.size() == 1) {
+            getDefaultGroup().init();
+            return;
+        }
+        ExecutorService buildExecutor = createExecutor();
+        try {
+            List<CompletableFuture<Boolean>> builds = groups.values().stream()
+                    .map(group -> CompletableFuture.supplyAsync(group::initOrFail, buildExecutor))
+                    .toList();
+            CompletableFuture.allOf(builds.toArray(CompletableFuture[]::new)).join();
+            if (builds.stream().noneMatch(CompletableFuture::join)) {
+                throw new IllegalStateException("GraphQL documentation of all groups could not be built");
+            }
+        } finally {
+            buildExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Starts the background builds once the context is refreshed in async mode
+     * Without async build the groups were built on the startup thread, so they are not built again
+     */
+    @Override
+    public synchronized void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!Boolean.TRUE.equals(properties.getAsyncBuild()) || executor != null || event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        List<DocGroup> building = groups.values().stream().filter(group -> group.getState() == BuildState.BUILDING).toList();
+        if (building.isEmpty()) {
+            return;
+        }
+        executor = createExecutor();
+        building.forEach(group -> executor.execute(group::initOrFail));
+    }
+
+    @PreDestroy
+    private synchronized void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        groups.values().forEach(DocGroup::close);
+    }
+
+    /**
+     * Creates build threads, one for each group up to the number of processors
+     */
+    private ExecutorService createExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.min(groups.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, groups.size() == 1 ? "graphql-doc-build" : "graphql-doc-build-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rebuilds the operations and types of all groups affected by changed schema files and classes
+     * The current model of a group is kept when its rebuild fails
+     */
+    public void reload() {
+        groups.values().forEach(DocGroup::reload);
+    }
+
+    /**
+     * @return groups in configured order
+     */
+    public Collection<DocGroup> getGroups() {
+        return Collections.unmodifiableCollection(groups.values());
+    }
+
+    /**
+     * @param name group name
+     * @return group or null when there is no group with the name
+     */
+    public DocGroup getGroup(String name) {
+        return groups.get(name);
+    }
+
+    /**
+     * @return first configured group, or the only group when no groups are configured
+     */
+    public DocGroup getDefaultGroup() {
+        return groups.values().iterator().next();
+    }
+
+    /**
+     * @return build state of the default group
+     */
+    public BuildState getState() {
+        return getDefaultGroup().getState();
+    }
+
+    /**
+     * Returns the current snapshot of the default group
+     * Readers should take the snapshot once and use it for the whole request
+     *
+     * @return current snapshot
+     */
+    public DocSnapshot getSnapshot() {
+        return getDefaultGroup().getSnapshot();
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.OperationStatistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Latency histogram of one operation over the current and the previous time window.
+ * Durations are counted in microsecond buckets, each power of two is split into 8 buckets, so percentiles are within
+ * about 6 percent of the measured value. Counts are striped by thread over separate arrays and updated without locks,
+ * stripes are only summed when statistics are read. Windows are replaced with compare and set when they expire.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 32;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final int ERRORS = BUCKETS;
+    private final int stripeMask;
+    private final long windowNanos;
+    private final AtomicReference<Windows> windows;
+
+    /**
+     * @param stripes     number of count arrays, a power of two
+     * @param windowNanos length of a time window
+     */
+    LatencyHistogram(int stripes, long windowNanos) {
+        this.stripeMask = stripes - 1;
+        this.windowNanos = windowNanos;
+        this.windows = new AtomicReference<>(new Windows(null, new Window(stripes, System.nanoTime())));
+    }
+
+    /**
+     * Counts a call in the current window
+     *
+     * @param nanos call duration
+     * @param error true if the call failed
+     * @param now   current {@link System#nanoTime()}
+     */
+    void record(long nanos, boolean error, long now) {
+        AtomicLongArray counts = current(now).stripes[(int) Thread.currentThread().getId() & stripeMask];
+        counts.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (error) {
+            counts.incrementAndGet(ERRORS);
+        }
+    }
+
+    /**
+     * Returns statistics of the current and the previous window
+     *
+     * @param now current {@link System#nanoTime()}
+     * @return statistics or null when there were no calls
+     */
+    OperationStatistics statistics(long now) {
+        current(now);
+        Windows read = windows.get();
+        long[] counts = new long[BUCKETS + 1];
+        read.current.addTo(counts);
+        if (read.previous != null) {
+            read.previous.addTo(counts);
+        }
+        long calls = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            calls += counts[i];
+        }
+        if (calls == 0) {
+            return null;
+        }
+        long elapsed = Math.max(now - (read.previous != null ? read.previous.start : read.current.start), 1);
+        return new OperationStatistics(calls, calls * (double) TimeUnit.SECONDS.toNanos(1) / elapsed,
+                counts[ERRORS] / (double) calls, percentile(counts, calls, 0.5), percentile(counts, calls, 0.95),
+                percentile(counts, calls, 0.99));
+    }
+
+    /**
+     * Returns the current window, starts a new window when it expired
+     * The expired window is kept as previous window when it ended less than a window ago
+     */
+    private Window current(long now) {
+        Windows current = windows.get();
+        if (now - current.current.start < windowNanos) {
+            return current.current;
+        }
+        Window previous = now - current.current.start < 2 * windowNanos ? current.current : null;
+        Windows next = new Windows(previous, new Window(stripeMask + 1, now));
+        return windows.compareAndSet(current, next) ? next.current : windows.get().current;
+    }
+
+    /**
+     * Returns the duration in milliseconds at the quantile, the middle of the bucket containing it
+     */
+    private static double percentile(long[] counts, long calls, double quantile) {
+        long rank = (long) Math.ceil(quantile * calls);
+        long seen = 0;
+        int bucket = 0;
+        for (; bucket < BUCKETS - 1; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        return (lowerBound(bucket) + lowerBound(bucket + 1)) / 2.0 / 1000;
+    }
+
+    /**
+     * Returns the bucket of a duration, values below 8 have a bucket each
+     */
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the smallest duration in microseconds of the bucket
+     */
+    private static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (1L << exponent) + ((long) (bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS));
+    }
+
+    private record Windows(Window previous, Window current) {
+    }
+
+    /**
+     * Counts of one time window, the last slot of each stripe counts errors
+     */
+    private static class Window {
+
+        private final long start;
+        private final AtomicLongArray[] stripes;
+
+        Window(int stripes, long start) {
+            this.start = start;
+            this.stripes = new AtomicLongArray[stripes];
+            for (int i = 0; i < stripes; i++) {
+                this.stripes[i] = new AtomicLongArray(BUCKETS + 1);
+            }
+        }
+
+        void addTo(long[] counts) {
+            for (AtomicLongArray stripe : stripes) {
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += stripe.get(i);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.OperationStatistics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms of the operations served by the application, keyed by operation type and root field name.
+ * Documented operations are root fields, so the statistics of an operation are looked up by its
+ * {@link DocModelIndex#key key} like QUERY:getUser.
+ */
+public class OperationStats {
+
+    private static final int MAX_STRIPES = 8;
+    private final Map<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+    private final int stripes;
+    private final long windowNanos;
+
+    /**
+     * @param windowSeconds length of a statistics window, statistics cover the current and the previous window
+     */
+    public OperationStats(int windowSeconds) {
+        this.stripes = Math.min(Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 2 - 1), MAX_STRIPES);
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+    }
+
+    /**
+     * Counts a call of the operation
+     *
+     * @param operation operation type and root field name like QUERY:getUser
+     * @param nanos     duration of the field with its selections
+     * @param error     true if the field or one of its selections failed
+     */
+    public void record(String operation, long nanos, boolean error) {
+        LatencyHistogram histogram = operations.get(operation);
+        if (histogram == null) {
+            histogram = operations.computeIfAbsent(operation, name -> new LatencyHistogram(stripes, windowNanos));
+        }
+        histogram.record(nanos, error, System.nanoTime());
+    }
+
+    /**
+     * Returns statistics of the operation
+     *
+     * @param operation operation type and root field name like QUERY:getUser
+     * @return statistics or null when the operation was not called in the current and the previous window
+     */
+    public OperationStatistics get(String operation) {
+        LatencyHistogram histogram = operations.get(operation);
+        return histogram == null ? null : histogram.statistics(System.nanoTime());
+    }
+
+}
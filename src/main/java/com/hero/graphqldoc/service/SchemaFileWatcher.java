@@ -0,0 +1,117 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.util.AntPathMatcher;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches directories of the schema files and calls back when a schema file is created, modified or deleted.
+ * Events are collected until no event arrives for 200 ms, so saving many files at once calls back once.
+ */
+@Slf4j
+public class SchemaFileWatcher implements Closeable {
+
+    private static final long QUIET_PERIOD_MILLIS = 200;
+    private final WatchService watchService;
+    private final String fileNamePattern;
+    private final Runnable callback;
+    private final Thread thread;
+
+    /**
+     * Starts watching given directories
+     *
+     * @param directories           directories of the schema files
+     * @param schemaLocationPattern schema location pattern, its last segment is matched with changed file names
+     * @param callback              called on the watcher thread after schema files changed
+     */
+    public SchemaFileWatcher(Collection<Path> directories, String schemaLocationPattern, Runnable callback) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.fileNamePattern = schemaLocationPattern.substring(schemaLocationPattern.lastIndexOf('/') + 1);
+        this.callback = callback;
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        thread = new Thread(this::watch, "graphql-doc-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching {} GraphQL schema directories", directories.size());
+    }
+
+    /**
+     * Returns directories of the schema files which are on the file system
+     *
+     * @param resources schema files
+     * @return directories of the schema files
+     */
+    public static Set<Path> directories(Resource[] resources) {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Resource resource : resources) {
+            try {
+                if (resource.isFile()) {
+                    directories.add(resource.getFile().toPath().getParent());
+                }
+            } catch (IOException e) {
+                log.debug("Schema file {} can not be watched", resource.getDescription(), e);
+            }
+        }
+        return directories;
+    }
+
+    private void watch() {
+        AntPathMatcher matcher = new AntPathMatcher();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = hasSchemaChange(watchService.take(), matcher);
+                WatchKey next;
+                while ((next = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= hasSchemaChange(next, matcher);
+                }
+                if (changed) {
+                    callback.run();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("GraphQL schema watcher is closed");
+        }
+    }
+
+    private boolean hasSchemaChange(WatchKey key, AntPathMatcher matcher) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW ||
+                    event.context() instanceof Path path && matcher.match(fileNamePattern, path.getFileName().toString());
+        }
+        key.reset();
+        return changed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+================================================================
+* Description:   Runs the example request of an operation against
+*                the GraphQL endpoint and shows the response with
+*                the resolver durations of each field
+================================================================
+*/
+
+
+(function ($) {
+    "use strict";
+
+    var TIMING_EXTENSION = 'graphqlDocTiming';
+    var BOX_STYLE = 'background-color: #E7E5E5; padding: 10px; border-radius: 10px; align-items: center; margin-top: 10px;';
+    var CELL_STYLE = 'font-family: monospace;font-size: 12px;padding-right: 20px;';
+
+    function millis(nanos) {
+        return (nanos / 1000000).toFixed(2) + ' ms';
+    }
+
+    function timingTable(timing) {
+        var $body = $('<tbody>').append($('<tr>')
+            .append($('<th>').attr('style', CELL_STYLE).text('Field'))
+            .append($('<th>').attr('style', CELL_STYLE).text('Calls'))
+            .append($('<th>').attr('style', CELL_STYLE).text('Total'))
+            .append($('<th>').attr('style', CELL_STYLE).text('Max')));
+        $.each(timing.fields, function (i, field) {
+            $body.append($('<tr>')
+                .append($('<td>').attr('style', CELL_STYLE).text(field.field))
+                .append($('<td>').attr('style', CELL_STYLE).text(field.count))
+                .append($('<td>').attr('style', CELL_STYLE).text(millis(field.duration)))
+                .append($('<td>').attr('style', CELL_STYLE).text(millis(field.maxDuration))));
+        });
+        return $('<div>').attr('style', BOX_STYLE)
+            .append($('<p style="margin: 0 0 5px 0">').text('Server time ' + millis(timing.duration)))
+            .append($('<table>').append($body));
+    }
+
+    function render($result, response, elapsed) {
+        var timing = response.extensions && response.extensions[TIMING_EXTENSION];
+        var shown = $.extend({}, response);
+        if (shown.extensions) {
+            shown.extensions = $.extend({}, shown.extensions);
+            delete shown.extensions[TIMING_EXTENSION];
+            if ($.isEmptyObject(shown.extensions)) {
+                delete shown.extensions;
+            }
+        }
+        $result.empty().append($('<p style="margin: 10px 0 0 0">').text('Response in ' + elapsed + ' ms'));
+        if (timing) {
+            $result.append(timingTable(timing));
+        }
+        $result.append($('<div>').attr('style', BOX_STYLE)
+            .append($('<pre style="margin: 0">').text(JSON.stringify(shown, null, 2))));
+    }
+
+    $(function () {
+        var endpoint = $('body').data('consoleEndpoint');
+        $(document).on('click', '.doc-run', function () {
+            var $button = $(this);
+            var $console = $button.closest('.doc-console');
+            var $result = $console.find('.doc-console-result');
+            var query = $console.attr('data-query');
+            if (/^\s*subscription\b/.test(query)) {
+                $result.empty().append($('<p style="margin: 10px 0 0 0">').text('Subscriptions can not be run from the documentation'));
+                return;
+            }
+            var extensions = {};
+            extensions[TIMING_EXTENSION] = true;
+            var start = Date.now();
+            $button.prop('disabled', true);
+            $.ajax({
+                url: endpoint,
+                method: 'POST',
+                contentType: 'application/json',
+                dataType: 'json',
+                data: JSON.stringify({query: query, extensions: extensions})
+            }).done(function (response) {
+                render($result, response, Date.now() - start);
+            }).fail(function (xhr) {
+                $result.empty().append($('<p style="margin: 10px 0 0 0; color: red">')
+                    .text('Request failed with status ' + xhr.status))
+                    .append($('<div>').attr('style', BOX_STYLE).append($('<pre style="margin: 0">').text(xhr.responseText || '')));
+            }).always(function () {
+                $button.prop('disabled', false);
+            });
+        });
+    });
+
+})(jQuery);
@@ -0,0 +1,59 @@
+/*
+================================================================
+* Description:   Searches operations, types and fields with the
+*                documentation JSON API while typing
+================================================================
+*/
+
+
+(function ($) {
+    "use strict";
+
+    var searchUrl = window.location.pathname.replace(/\/+$/, '') + '/api/v1/search';
+    var DESCRIPTION_STYLE = 'font-family: monospace;font-size: 11px;font-style: italic;color: #767676;';
+    var timer;
+    var lastQuery = '';
+
+    function render($results, results) {
+        $results.empty();
+        $.each(results, function (i, result) {
+            var title = result.parent ? result.parent + '.' + result.name : result.name;
+            var $link = $('<a class="nav-link">').attr('href', result.anchor)
+                .append($('<span>').text(title))
+                .append($('<span class="badge badge-light ml-1">').text(result.kind));
+            if (result.description) {
+                $link.append($('<div>').attr('style', DESCRIPTION_STYLE).text(result.description));
+            }
+            $results.append($('<li class="nav-item">').append($link));
+        });
+        $results.toggle(results.length > 0);
+    }
+
+    $(function () {
+        var $input = $('#doc-search-input');
+        var $results = $('#doc-search-results');
+        $input.on('input', function () {
+            clearTimeout(timer);
+            timer = setTimeout(function () {
+                var query = $.trim($input.val());
+                if (query === lastQuery) {
+                    return;
+                }
+                lastQuery = query;
+                if (!query) {
+                    render($results, []);
+                    return;
+                }
+                $.getJSON(searchUrl, {q: query, limit: 20}, function (results) {
+                    if (query === lastQuery) {
+                        render($results, results);
+                    }
+                });
+            }, 150);
+        });
+        $results.on('click', 'a', function () {
+            $(window).trigger('hashchange');
+        });
+    });
+
+})(jQuery);
@@ -0,0 +1,131 @@
+/*
+================================================================
+* Description:   Loads operation and type sections from the
+*                documentation JSON API when they are scrolled to
+================================================================
+*/
+
+
+(function ($) {
+    "use strict";
+
+    var apiBase = window.location.pathname.replace(/\/+$/, '') + '/api/v1';
+    var typeNames = {};
+    var BOX_STYLE = 'background-color: #E7E5E5; padding: 10px; border-radius: 10px; align-items: center;';
+    var TYPE_STYLE = 'font-family: monospace;font-size: 12px;font-style: italic;font-weight: 600;color: #55a;';
+    var LIST_STYLE = 'font-family: monospace;font-size: 12px;font-weight: 600;color: red;';
+    var DESCRIPTION_STYLE = 'font-family: monospace;font-size: 12px;font-style: italic;font-weight: 600;color: #767676;';
+
+    function codeBox(text) {
+        return $('<div>').attr('style', BOX_STYLE).append($('<pre style="margin: 0">').text(text));
+    }
+
+    function renderOperation($target, operation) {
+        $target.append($('<p>').text('Request'));
+        if (operation.authString) {
+            $target.append($('<div style="color: red">').text(operation.authString));
+        }
+        $target.append(codeBox(operation.inputJson));
+        if ($('body').data('consoleEndpoint')) {
+            $target.append($('<div class="doc-console">').attr('data-query', operation.inputJson)
+                .append($('<button class="btn btn-sm btn-outline-primary doc-run" type="button">').text('Run'))
+                .append($('<div class="doc-console-result">')));
+        }
+        $target.append($('<p>').text('Response'));
+        var outputType = typeNames[operation.outputName];
+        if (outputType) {
+            $target.append($('<a>').attr('href', '#' + outputType + '_c').text(outputType));
+        }
+        $target.append(codeBox(operation.outputJson));
+    }
+
+    function renderType($target, type) {
+        var $body = $('<tbody class="field-table">');
+        $.each(type.fields, function (i, field) {
+            var $name = $('<div style="display: flex; flex-direction: row">').append($('<div>').text(field.name));
+            if (field.required) {
+                $name.append($('<div style="color: red">').text('*'));
+            }
+            var $type = $('<div style="display: flex; flex-direction: row">');
+            if (field.listType) {
+                $type.append($('<div>').attr('style', LIST_STYLE).text('['));
+            }
+            if (field.javaType) {
+                $type.append($('<div>').attr('style', TYPE_STYLE).text(field.type));
+            } else {
+                $type.append($('<a>').attr('style', TYPE_STYLE).attr('href', '#' + field.type + '_c').text(field.type));
+            }
+            if (field.listType) {
+                $type.append($('<div>').attr('style', LIST_STYLE).text(']'));
+            }
+            if (field.notNull) {
+                $type.append($('<div>').attr('style', LIST_STYLE).text('!'));
+            }
+            $body.append($('<tr>')
+                .append($('<td>').append($name))
+                .append($('<td>').append($type))
+                .append($('<td>').append($('<div>').attr('style', DESCRIPTION_STYLE).text(field.description))));
+        });
+        var $box = $('<div>').attr('style', BOX_STYLE);
+        if (type.values && type.values.length) {
+            $box.append($('<div>').attr('style', TYPE_STYLE).text(type.values.join(' | ')));
+        }
+        if (type.members && type.members.length) {
+            var $members = $('<div style="display: flex; flex-direction: row">');
+            $.each(type.members, function (i, member) {
+                $members.append($('<a>').attr('style', TYPE_STYLE + 'margin-right: 10px;').attr('href', '#' + member + '_c').text(member));
+            });
+            $box.append($members);
+        }
+        $target.append($box.append($('<table>').append($body)));
+    }
+
+    function load(element) {
+        var $target = $(element);
+        if ($target.data('loaded')) {
+            return;
+        }
+        $target.data('loaded', true);
+        var operation = $target.data('operation');
+        if (operation !== undefined) {
+            $.getJSON(apiBase + '/operations/' + encodeURIComponent($target.data('operationType')) + '/' + encodeURIComponent(operation), function (data) {
+                renderOperation($target, data);
+            });
+        } else {
+            $.getJSON(apiBase + '/types/' + encodeURIComponent($target.data('type')), function (data) {
+                renderType($target, data);
+            });
+        }
+    }
+
+    $(function () {
+        $.getJSON(apiBase + '/navigation', function (navigation) {
+            $.each(navigation[navigation.length - 1].children, function (i, type) {
+                typeNames[type.key] = type.title;
+            });
+            var sections = document.querySelectorAll('.doc-lazy');
+            if (!('IntersectionObserver' in window)) {
+                sections.forEach(load);
+                return;
+            }
+            var observer = new IntersectionObserver(function (entries) {
+                entries.forEach(function (entry) {
+                    if (entry.isIntersecting) {
+                        observer.unobserve(entry.target);
+                        load(entry.target);
+                    }
+                });
+            }, {rootMargin: '200px 0px'});
+            sections.forEach(function (section) {
+                observer.observe(section);
+            });
+        });
+        // Sections opened from navigation are loaded even if they are not scrolled to
+        $(window).on('hashchange', function () {
+            $(window.location.hash.replace(/([^\w#-])/g, '\\$1')).find('.doc-lazy').each(function () {
+                load(this);
+            });
+        });
+    });
+
+})(jQuery);
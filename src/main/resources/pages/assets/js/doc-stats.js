@@ -0,0 +1,43 @@
+/*
+================================================================
+* Description:   Shows latency, call rate and error rate of each
+*                operation from the documentation JSON API and
+*                refreshes them while the page is open
+================================================================
+*/
+
+
+(function ($) {
+    "use strict";
+
+    var statsUrl = window.location.pathname.replace(/\/+$/, '') + '/api/v1/stats';
+    var REFRESH_MILLIS = 15000;
+    var STATS_STYLE = 'font-family: monospace;font-size: 12px;color: #767676;margin-bottom: 10px;';
+
+    function millis(value) {
+        return value.toFixed(value < 10 ? 2 : 0) + ' ms';
+    }
+
+    function describe(stats) {
+        if (!stats) {
+            return 'No recent calls';
+        }
+        return 'p50 ' + millis(stats.p50) + ' · p95 ' + millis(stats.p95) + ' · p99 ' + millis(stats.p99) +
+            ' · ' + stats.callRate.toFixed(2) + ' calls/s · ' + (stats.errorRate * 100).toFixed(1) + '% errors';
+    }
+
+    function refresh() {
+        $.getJSON(statsUrl, function (all) {
+            $('.doc-stats').each(function () {
+                var $stats = $(this);
+                $stats.attr('style', STATS_STYLE).text(describe(all[$stats.attr('data-operation-type') + ':' + $stats.attr('data-operation')]));
+            });
+        });
+    }
+
+    $(function () {
+        refresh();
+        setInterval(refresh, REFRESH_MILLIS);
+    });
+
+})(jQuery);
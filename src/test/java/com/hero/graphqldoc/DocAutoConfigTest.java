@@ -1,35 +1,109 @@
-///*
-// * @author : Oguz Kahraman
-// * @since : 20.02.2022
-// *
-// * Copyright - graphqldoc
-// **/
-//package com.hero.graphqldoc;
-//
-//import com.hero.graphqldoc.core.DocAutoConfig;
-//import com.hero.graphqldoc.controller.GraphQLController;
-//import org.junit.jupiter.api.Test;
-//import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
-//import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
-//
-//import static org.assertj.core.api.Assertions.assertThat;
-//
-//
-//class DocAutoConfigTest {
-//
-//    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
-//            .withUserConfiguration(TestApp.class);
-//
-//    @Test
-//    void cache_configuration_loaded_when_not_disabled_explicitly() {
-//        this.contextRunner.withUserConfiguration(DocAutoConfig.class).run((context) -> {
-//            assertThat(context).hasSingleBean(GraphQLController.class);
-//        });
-//    }
-//
-//    @EnableAutoConfiguration
-//    static class TestApp {
-//
-//    }
-//
-//}
\ No newline at end of file
+/*
+ * @author : Oguz Kahraman
+ * @since : 20.02.2022
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc;
+
+import com.hero.graphqldoc.core.DocAutoConfig;
+import com.hero.graphqldoc.core.DocReactiveAutoConfig;
+import com.hero.graphqldoc.core.GraphQLDocConsoleInstrumentation;
+import com.hero.graphqldoc.core.GraphQLDocHandlerRegistrar;
+import com.hero.graphqldoc.core.GraphQLDocHealthIndicator;
+import com.hero.graphqldoc.core.GraphQLDocStatsInstrumentation;
+import com.hero.graphqldoc.core.GraphQLDocWebMvcConfig;
+import com.hero.graphqldoc.fixture.FixtureQueryResolver;
+import com.hero.graphqldoc.properties.GraphQLDocProperties;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import com.hero.graphqldoc.service.OperationStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class DocAutoConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(WebMvcAutoConfiguration.class, ThymeleafAutoConfiguration.class,
+                    DocAutoConfig.class, DocReactiveAutoConfig.class))
+            .withPropertyValues("graphql.doc.package-name=" + FixtureQueryResolver.class.getPackageName());
+
+    @Test
+    void servlet_configuration_is_loaded() {
+        this.contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(GraphQLDocService.class);
+            assertThat(context).hasSingleBean(GraphQLDocHandlerRegistrar.class);
+            assertThat(context).hasSingleBean(GraphQLDocWebMvcConfig.class);
+            assertThat(context.getBean(GraphQLDocProperties.class).getEnabled()).isTrue();
+            assertThat(context).hasSingleBean(GraphQLDocHealthIndicator.class);
+            assertThat(context).doesNotHaveBean(RouterFunction.class);
+        });
+    }
+
+    @Test
+    void default_group_is_mapped_on_application_mapping() {
+        this.contextRunner.run(context -> assertThat(patterns(context))
+                .contains("/document", "/document/api/v1/navigation", "/document/api/v1/operations/{type}/{name}"));
+    }
+
+    @Test
+    void groups_are_mapped_under_their_endpoint() {
+        this.contextRunner.withPropertyValues("graphql.doc.groups[0].name=admin", "graphql.doc.groups[0].endpoint=/admin-doc")
+                .run(context -> assertThat(patterns(context))
+                        .contains("/admin-doc", "/admin-doc/api/v1/search")
+                        .doesNotContain("/document"));
+    }
+
+    @Test
+    void stats_and_console_are_disabled_by_default() {
+        this.contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(OperationStats.class);
+            assertThat(context).doesNotHaveBean(GraphQLDocStatsInstrumentation.class);
+            assertThat(context).doesNotHaveBean(GraphQLDocConsoleInstrumentation.class);
+        });
+    }
+
+    @Test
+    void stats_and_console_are_enabled_by_properties() {
+        this.contextRunner.withPropertyValues("graphql.doc.stats=true", "graphql.doc.console=true").run(context -> {
+            assertThat(context).hasSingleBean(OperationStats.class);
+            assertThat(context).hasSingleBean(GraphQLDocStatsInstrumentation.class);
+            assertThat(context).hasSingleBean(GraphQLDocConsoleInstrumentation.class);
+        });
+    }
+
+    @Test
+    void assets_are_not_served_when_disabled() {
+        this.contextRunner.withPropertyValues("graphql.doc.enabled=false").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(GraphQLDocWebMvcConfig.class);
+            assertThat(context.getBean(GraphQLDocProperties.class).getEnabled()).isFalse();
+        });
+    }
+
+    @Test
+    void configuration_is_not_loaded_without_web_application() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DocAutoConfig.class, DocReactiveAutoConfig.class))
+                .run(context -> assertThat(context).doesNotHaveBean(GraphQLDocService.class));
+    }
+
+    private static Set<String> patterns(ApplicationContext context) {
+        return context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class).getHandlerMethods().keySet()
+                .stream().flatMap(info -> info.getPatternValues().stream()).collect(Collectors.toSet());
+    }
+
+}
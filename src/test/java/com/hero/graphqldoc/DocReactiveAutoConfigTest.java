@@ -0,0 +1,96 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc;
+
+import com.hero.graphqldoc.core.DocAutoConfig;
+import com.hero.graphqldoc.core.DocReactiveAutoConfig;
+import com.hero.graphqldoc.core.GraphQLDocHandlerRegistrar;
+import com.hero.graphqldoc.core.GraphQLDocHealthIndicator;
+import com.hero.graphqldoc.core.GraphQLDocStatsInstrumentation;
+import com.hero.graphqldoc.core.GraphQLDocWebMvcConfig;
+import com.hero.graphqldoc.fixture.FixtureQueryResolver;
+import com.hero.graphqldoc.service.GraphQLDocService;
+import com.hero.graphqldoc.service.OperationStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.thymeleaf.TemplateEngine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocReactiveAutoConfigTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DocAutoConfig.class, DocReactiveAutoConfig.class))
+            .withPropertyValues("graphql.doc.package-name=" + FixtureQueryResolver.class.getPackageName());
+
+    @Test
+    void reactive_configuration_is_loaded() {
+        this.contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasSingleBean(GraphQLDocService.class);
+            assertThat(context).hasSingleBean(TemplateEngine.class);
+            assertThat(context).hasSingleBean(GraphQLDocHealthIndicator.class);
+            assertThat(context).hasBean("graphqlDocRouter");
+            assertThat(context).doesNotHaveBean(GraphQLDocHandlerRegistrar.class);
+            assertThat(context).doesNotHaveBean(GraphQLDocWebMvcConfig.class);
+        });
+    }
+
+    @Test
+    void default_group_is_routed() {
+        this.contextRunner.run(context -> {
+            assertThat(routes(context, "/document")).isTrue();
+            assertThat(routes(context, "/document/api/v1/operations/QUERY/getUser")).isTrue();
+            assertThat(routes(context, "/other")).isFalse();
+        });
+    }
+
+    @Test
+    void groups_are_routed_under_their_endpoint() {
+        this.contextRunner.withPropertyValues("graphql.doc.groups[0].name=admin", "graphql.doc.groups[0].endpoint=/admin-doc")
+                .run(context -> {
+                    assertThat(routes(context, "/admin-doc")).isTrue();
+                    assertThat(routes(context, "/admin-doc/api/v1/search")).isTrue();
+                    assertThat(routes(context, "/document")).isFalse();
+                });
+    }
+
+    @Test
+    void stats_are_enabled_by_property() {
+        this.contextRunner.withPropertyValues("graphql.doc.stats=true").run(context -> {
+            assertThat(context).hasSingleBean(OperationStats.class);
+            assertThat(context).hasSingleBean(GraphQLDocStatsInstrumentation.class);
+        });
+    }
+
+    @Test
+    void nothing_is_routed_when_disabled() {
+        this.contextRunner.withPropertyValues("graphql.doc.enabled=false").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(GraphQLDocService.class);
+            assertThat(context).doesNotHaveBean(GraphQLDocHealthIndicator.class);
+            assertThat(context).doesNotHaveBean("graphqlDocRouter");
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean routes(ApplicationContext context, String path) {
+        RouterFunction<ServerResponse> router = context.getBean("graphqlDocRouter", RouterFunction.class);
+        ServerRequest request = ServerRequest.create(MockServerWebExchange.from(MockServerHttpRequest.get(path)),
+                HandlerStrategies.withDefaults().messageReaders());
+        return router.route(request).blockOptional().isPresent();
+    }
+
+}
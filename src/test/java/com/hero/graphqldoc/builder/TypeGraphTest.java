@@ -0,0 +1,175 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.hero.graphqldoc.parser.QueryParser;
+import com.hero.graphqldoc.parser.SchemaFileParser;
+import graphql.language.AstPrinter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeGraphTest {
+
+    private static final String NODE = "type Node { id: ID next: Node }";
+    private static final String CYCLE = "type Author { name: String books: [Book] } type Book { title: String author: Author }";
+    private static final String LAYERS = """
+            type Layer0 { left: Layer1 right: Layer1 tag: Tag }
+            type Layer1 { left: Layer2 right: Layer2 tag: Tag }
+            type Layer2 { left: Layer3 right: Layer3 tag: Tag }
+            type Layer3 { left: Layer4 right: Layer4 tag: Tag }
+            type Layer4 { left: Layer5 right: Layer5 tag: Tag }
+            type Layer5 { left: Layer6 right: Layer6 tag: Tag }
+            type Layer6 { left: Layer7 right: Layer7 tag: Tag }
+            type Layer7 { left: Layer8 right: Layer8 tag: Tag }
+            type Layer8 { left: Layer9 right: Layer9 tag: Tag }
+            type Layer9 { first: Layer0 tag: Tag }
+            type Tag { name: String }
+            """;
+
+    @Test
+    void self_reference_is_expanded_recursion_depth_times() throws IOException {
+        TypeGraph graph = graph(NODE, 2);
+        graph.visit(Node.class, "Node");
+
+        assertThat(AstPrinter.printAstCompact(graph.response(Node.class).selection())).isEqualTo("{id next {id}}");
+        JsonObject example = example(graph, Node.class);
+        assertThat(example.getAsJsonObject("next").has("id")).isTrue();
+        assertThat(example.getAsJsonObject("next").has("next")).isFalse();
+        assertThat(AstPrinter.printAstCompact(graph.request(Node.class))).containsOnlyOnce("next");
+    }
+
+    @Test
+    void fragments_do_not_depend_on_the_order_they_are_built() {
+        TypeGraph authorFirst = graph(CYCLE, 2);
+        authorFirst.visit(Author.class, "Author");
+        authorFirst.response(Author.class);
+        TypeGraph bookFirst = graph(CYCLE, 2);
+        bookFirst.visit(Book.class, "Book");
+
+        assertThat(AstPrinter.printAstCompact(authorFirst.response(Book.class).selection()))
+                .isEqualTo(AstPrinter.printAstCompact(bookFirst.response(Book.class).selection()));
+        assertThat(authorFirst.response(Author.class)).isSameAs(authorFirst.response(Author.class));
+    }
+
+    @Test
+    void shared_types_on_a_cycle_are_expanded_once_per_depth() throws IOException {
+        int recursionDepth = 2;
+        TypeGraph graph = graph(LAYERS, recursionDepth);
+        graph.visit(Layer0.class, "Layer0");
+
+        graph.response(Layer0.class);
+        graph.writeExample(new JsonWriter(Writer.nullWriter()), Layer0.class);
+        graph.request(Layer0.class);
+
+        // 11 types, each built at most once per remaining depth as selection, example and request object
+        assertThat(graph.expansions()).isLessThanOrEqualTo(3 * 11 * recursionDepth);
+    }
+
+    private static TypeGraph graph(String schema, int recursionDepth) {
+        Resource resource = new ByteArrayResource(schema.getBytes(StandardCharsets.UTF_8), "schema.graphqls");
+        return new TypeGraph(QueryParser.index(SchemaFileParser.parse(new Resource[]{resource})), recursionDepth,
+                new HashMap<>(), new HashMap<>(), new TreeSet<>());
+    }
+
+    private static JsonObject example(TypeGraph graph, Class<?> type) throws IOException {
+        StringWriter json = new StringWriter();
+        graph.writeExample(new JsonWriter(json), type);
+        return JsonParser.parseString(json.toString()).getAsJsonObject();
+    }
+
+    static class Node {
+        String id;
+        Node next;
+    }
+
+    static class Author {
+        String name;
+        Book[] books;
+    }
+
+    static class Book {
+        String title;
+        Author author;
+    }
+
+    static class Tag {
+        String name;
+    }
+
+    static class Layer0 {
+        Layer1 left;
+        Layer1 right;
+        Tag tag;
+    }
+
+    static class Layer1 {
+        Layer2 left;
+        Layer2 right;
+        Tag tag;
+    }
+
+    static class Layer2 {
+        Layer3 left;
+        Layer3 right;
+        Tag tag;
+    }
+
+    static class Layer3 {
+        Layer4 left;
+        Layer4 right;
+        Tag tag;
+    }
+
+    static class Layer4 {
+        Layer5 left;
+        Layer5 right;
+        Tag tag;
+    }
+
+    static class Layer5 {
+        Layer6 left;
+        Layer6 right;
+        Tag tag;
+    }
+
+    static class Layer6 {
+        Layer7 left;
+        Layer7 right;
+        Tag tag;
+    }
+
+    static class Layer7 {
+        Layer8 left;
+        Layer8 right;
+        Tag tag;
+    }
+
+    static class Layer8 {
+        Layer9 left;
+        Layer9 right;
+        Tag tag;
+    }
+
+    static class Layer9 {
+        Layer0 first;
+        Tag tag;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.builder;
+
+import com.hero.graphqldoc.builder.TypeIntrospection.ResolvedType;
+import graphql.execution.DataFetcherResult;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeIntrospectionTest {
+
+    @Test
+    void plain_types_are_not_unwrapped() {
+        assertThat(resolve("plain")).isEqualTo(new ResolvedType(Address.class, false));
+    }
+
+    @Test
+    void collections_and_arrays_are_lists() {
+        assertThat(resolve("list")).isEqualTo(new ResolvedType(Address.class, true));
+        assertThat(resolve("set")).isEqualTo(new ResolvedType(Address.class, true));
+        assertThat(resolve("array")).isEqualTo(new ResolvedType(Address.class, true));
+    }
+
+    @Test
+    void nested_wrappers_are_unwrapped() {
+        assertThat(resolve("listOfOptionals")).isEqualTo(new ResolvedType(Address.class, true));
+        assertThat(resolve("futureOfList")).isEqualTo(new ResolvedType(Address.class, true));
+        assertThat(resolve("resultOfOptional")).isEqualTo(new ResolvedType(Address.class, false));
+    }
+
+    @Test
+    void raw_types_resolve_to_object() {
+        assertThat(resolve("raw")).isEqualTo(new ResolvedType(Object.class, true));
+    }
+
+    @Test
+    void type_variables_are_resolved_against_the_owner() throws NoSuchMethodException {
+        TypeIntrospection.ClassDetails details = TypeIntrospection.of(AddressPage.class);
+
+        assertThat(details.getField("item").type()).isEqualTo(new ResolvedType(Address.class, false));
+        assertThat(details.getField("items").type()).isEqualTo(new ResolvedType(Address.class, true));
+        assertThat(TypeIntrospection.returnType(Page.class.getDeclaredMethod("first"), AddressPage.class))
+                .isEqualTo(new ResolvedType(Address.class, false));
+        assertThat(TypeIntrospection.parameterTypes(Page.class.getDeclaredMethod("add", List.class, int.class), AddressPage.class))
+                .containsExactly(new ResolvedType(Address.class, true), new ResolvedType(int.class, false));
+    }
+
+    @Test
+    void subclass_fields_hide_superclass_fields() {
+        TypeIntrospection.ClassDetails details = TypeIntrospection.of(AddressPage.class);
+
+        assertThat(details.getField("size").field().getDeclaringClass()).isEqualTo(AddressPage.class);
+        assertThat(details.getFields()).hasSize(4);
+        assertThat(TypeIntrospection.of(AddressPage.class)).isSameAs(details);
+    }
+
+    private static ResolvedType resolve(String field) {
+        try {
+            Type type = Wrappers.class.getDeclaredField(field).getGenericType();
+            return TypeIntrospection.resolve(type);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static class Address {
+    }
+
+    @SuppressWarnings("rawtypes")
+    static class Wrappers {
+        Address plain;
+        List<Address> list;
+        Set<Address> set;
+        Address[] array;
+        List<Optional<Address>> listOfOptionals;
+        CompletableFuture<List<Address>> futureOfList;
+        DataFetcherResult<Optional<Address>> resultOfOptional;
+        List raw;
+    }
+
+    static class Page<T> {
+        T item;
+        List<T> items;
+        int size;
+
+        T first() {
+            return item;
+        }
+
+        void add(List<T> added, int index) {
+            items.addAll(index, added);
+        }
+    }
+
+    static class AddressPage extends Page<Address> {
+        long size;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.discovery;
+
+import com.hero.graphqldoc.annotations.QueryType;
+import com.hero.graphqldoc.fixture.FixtureQueryResolver;
+import com.hero.graphqldoc.fixture.broken.FixtureMarked;
+import com.hero.graphqldoc.fixture.broken.FixtureMissing;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClasspathResolverDiscoveryTest {
+
+    private static final String FIXTURE_PACKAGE = FixtureQueryResolver.class.getPackageName();
+
+    @Test
+    void resolvers_of_the_package_are_discovered() {
+        ClasspathResolverDiscovery discovery = new ClasspathResolverDiscovery(new DefaultResourceLoader(), FIXTURE_PACKAGE);
+
+        assertThat(discovery.discover().get(QueryType.class)).containsExactly(FixtureQueryResolver.class);
+    }
+
+    @Test
+    void empty_package_is_not_scanned() {
+        assertThat(new ClasspathResolverDiscovery(new DefaultResourceLoader(), "").discover()).isEmpty();
+        assertThat(new ClasspathResolverDiscovery(new DefaultResourceLoader(), List.of("", " ")).discover()).isEmpty();
+    }
+
+    @Test
+    void classes_referencing_missing_classes_are_skipped() {
+        ClassLoader classLoader = new HidingClassLoader(getClass().getClassLoader());
+        ClasspathResolverDiscovery discovery = new ClasspathResolverDiscovery(new DefaultResourceLoader(classLoader), FIXTURE_PACKAGE);
+
+        assertThat(discovery.discover().get(QueryType.class)).extracting(Class::getName)
+                .containsExactly(FixtureQueryResolver.class.getName());
+    }
+
+    /**
+     * Loads the broken fixture classes itself and hides {@link FixtureMissing}, so reading the annotation of
+     * {@link FixtureMarked} fails like a class referencing a type missing from the classpath
+     */
+    private static class HidingClassLoader extends ClassLoader {
+
+        private static final String BROKEN_PACKAGE = FixtureMarked.class.getPackageName() + ".";
+
+        HidingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(FixtureMissing.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(BROKEN_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream inputStream = getParent().getResourceAsStream(ClassUtils.convertClassNameToResourcePath(name) + ".class")) {
+                    if (inputStream == null) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    byte[] bytes = inputStream.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+
+    }
+
+}
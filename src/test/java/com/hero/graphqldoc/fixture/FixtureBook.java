@@ -0,0 +1,22 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.fixture;
+
+import com.hero.graphqldoc.annotations.Schema;
+import com.hero.graphqldoc.annotations.SchemaType;
+import lombok.Data;
+
+@Data
+@Schema(description = "Book of the fixture schema")
+public class FixtureBook {
+
+    @SchemaType(example = "1", description = "Identifier")
+    private String id;
+    @SchemaType(example = "Dune", description = "Title")
+    private String title;
+
+}
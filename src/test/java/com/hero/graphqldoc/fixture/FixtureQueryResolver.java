@@ -0,0 +1,24 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.fixture;
+
+import com.hero.graphqldoc.annotations.GraphQLDocDetail;
+import com.hero.graphqldoc.annotations.QueryType;
+import graphql.kickstart.tools.GraphQLQueryResolver;
+
+/**
+ * Resolver documented by the auto-configuration tests
+ */
+@QueryType(description = "Book Query Operations", key = "Book Query")
+public class FixtureQueryResolver implements GraphQLQueryResolver {
+
+    @GraphQLDocDetail(operation = "Get book", description = "Returns the book with the identifier")
+    public FixtureBook getBook(String id) {
+        return null;
+    }
+
+}
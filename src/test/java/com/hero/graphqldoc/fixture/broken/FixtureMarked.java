@@ -0,0 +1,14 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.fixture.broken;
+
+/**
+ * Class which can not be read by the discovery tests, its annotation references a missing class
+ */
+@FixtureMarker
+public class FixtureMarked {
+}
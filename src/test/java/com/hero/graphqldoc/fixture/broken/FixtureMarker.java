@@ -0,0 +1,20 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.fixture.broken;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Annotation whose default value can not be resolved when {@link FixtureMissing} is missing
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FixtureMarker {
+
+    Class<?> value() default FixtureMissing.class;
+
+}
@@ -0,0 +1,13 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.fixture.broken;
+
+/**
+ * Class hidden from the class loader of the discovery tests
+ */
+public class FixtureMissing {
+}
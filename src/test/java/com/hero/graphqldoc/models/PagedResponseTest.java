@@ -0,0 +1,47 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PagedResponseTest {
+
+    private final List<Integer> items = List.of(1, 2, 3, 4, 5);
+
+    @Test
+    void returns_requested_page() {
+        PagedResponse<Integer> response = PagedResponse.of(items, 1, 2);
+
+        assertThat(response.getContent()).containsExactly(3, 4);
+        assertThat(response.getPage()).isEqualTo(1);
+        assertThat(response.getSize()).isEqualTo(2);
+        assertThat(response.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void last_page_is_partial() {
+        assertThat(PagedResponse.of(items, 2, 2).getContent()).containsExactly(5);
+    }
+
+    @Test
+    void pages_after_the_last_are_empty() {
+        assertThat(PagedResponse.of(items, 3, 2).getContent()).isEmpty();
+        assertThat(PagedResponse.of(items, 3, 2).getTotalElements()).isEqualTo(5);
+        assertThat(PagedResponse.of(items, Integer.MAX_VALUE, Integer.MAX_VALUE).getContent()).isEmpty();
+    }
+
+    @Test
+    void size_larger_than_items_returns_all() {
+        assertThat(PagedResponse.of(items, 0, Integer.MAX_VALUE).getContent()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(PagedResponse.of(List.of(), 0, 10).getContent()).isEmpty();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.parser;
+
+import com.hero.graphqldoc.models.SchemaChanges;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalSchemaParserTest {
+
+    private static final String QUERY = "type Query { user(id: ID): User }";
+    private static final String TYPES = "type User { id: ID name: String } type Address { street: String }";
+
+    private final IncrementalSchemaParser parser = new IncrementalSchemaParser();
+
+    @Test
+    void first_parse_is_full() {
+        TypeDefinitionRegistry registry = parser.parse(resources(QUERY, TYPES));
+
+        assertThat(parser.getChanges().isFull()).isTrue();
+        assertThat(registry.getType("User")).isPresent();
+        assertThat(registry.getType("Query")).isPresent();
+    }
+
+    @Test
+    void unchanged_files_report_no_changes() {
+        parser.parse(resources(QUERY, TYPES));
+        parser.parse(resources(QUERY, TYPES));
+
+        SchemaChanges changes = parser.getChanges();
+        assertThat(changes.isFull()).isFalse();
+        assertThat(changes.getTypes()).isEmpty();
+        assertThat(changes.getOperations()).isEmpty();
+    }
+
+    @Test
+    void changed_type_is_reported() {
+        parser.parse(resources(QUERY, TYPES));
+        TypeDefinitionRegistry registry = parser.parse(resources(QUERY,
+                "type User { id: ID name: String email: String } type Address { street: String }"));
+
+        assertThat(parser.getChanges().getTypes()).containsExactly("User");
+        assertThat(parser.getChanges().getOperations()).isEmpty();
+        assertThat(registry.getType("Query")).isPresent();
+    }
+
+    @Test
+    void changed_and_added_operations_are_reported() {
+        parser.parse(resources(QUERY, TYPES));
+        parser.parse(resources("type Query { user(id: ID!): User users: [User] }", TYPES));
+
+        assertThat(parser.getChanges().getOperations()).containsExactlyInAnyOrder("user", "users");
+        assertThat(parser.getChanges().getTypes()).containsExactly("Query");
+    }
+
+    @Test
+    void formatting_changes_are_not_reported() {
+        parser.parse(resources(QUERY, TYPES));
+        parser.parse(resources(QUERY, "# users\ntype User {\n  id: ID\n  name: String\n}\ntype Address { street: String }"));
+
+        assertThat(parser.getChanges().getTypes()).isEmpty();
+    }
+
+    @Test
+    void removed_file_reports_its_definitions() {
+        parser.parse(resources(QUERY, TYPES, "type Country { code: String }"));
+        parser.parse(resources(QUERY, TYPES));
+
+        assertThat(parser.getChanges().getTypes()).containsExactly("Country");
+    }
+
+    private static Resource[] resources(String... contents) {
+        Resource[] resources = new Resource[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            resources[i] = new ByteArrayResource(contents[i].getBytes(StandardCharsets.UTF_8), "schema" + i + ".graphqls");
+        }
+        return resources;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.parser;
+
+import com.hero.graphqldoc.enums.GraphType;
+import com.hero.graphqldoc.models.FieldDetails;
+import com.hero.graphqldoc.models.GraphQLQueryType;
+import com.hero.graphqldoc.models.GraphQLTypeDetails;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class QueryParserTest {
+
+    private static final String SCHEMA = """
+            type Query { user(id: ID!): User }
+            extend type Query { users: [User] }
+            type User { id: ID! name: String }
+            """;
+
+    private final TypeDefinitionRegistry registry = SchemaFileParser.parse(
+            new Resource[]{new ByteArrayResource(SCHEMA.getBytes(StandardCharsets.UTF_8), "schema.graphqls")});
+
+    @Test
+    void operations_of_root_type_and_extensions_are_indexed() {
+        SchemaIndex schemaIndex = QueryParser.index(registry);
+
+        assertThat(schemaIndex.getOperations(GraphType.QUERY)).extracting(operation -> operation.getQlQueryType().getName())
+                .containsExactly("user", "users");
+        assertThat(schemaIndex.getOperations(GraphType.MUTATION)).isEmpty();
+        assertThat(schemaIndex.getFields("User")).extracting(FieldDetails::getName, FieldDetails::isNotNull)
+                .containsExactly(tuple("id", true), tuple("name", false));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecated_methods_read_the_index() {
+        assertThat(QueryParser.getQueries(registry, GraphType.QUERY)).extracting(GraphQLTypeDetails::getQlQueryType)
+                .extracting(GraphQLQueryType::getName).containsExactly("user", "users");
+        assertThat(QueryParser.example(registry, "User")).extracting(FieldDetails::getName).containsExactly("id", "name");
+        assertThat(QueryParser.example(registry, "Missing")).isEmpty();
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocAssetCacheTest {
+
+    private final DocAssetCache assetCache = new DocAssetCache(getClass().getClassLoader());
+
+    @Test
+    void existing_asset_is_read_once_and_cached() {
+        DocAssetCache.Asset asset = assetCache.get("css/stylesheet.css");
+
+        assertThat(asset).isNotNull();
+        assertThat(asset.mediaType()).isEqualTo(MediaType.valueOf("text/css"));
+        assertThat(asset.gzipBody()).isNotNull();
+        assertThat(assetCache.isLoaded("css/stylesheet.css")).isTrue();
+        assertThat(assetCache.get("css/stylesheet.css")).isSameAs(asset);
+    }
+
+    @Test
+    void versioned_path_resolves_to_the_same_asset() {
+        String versionedPath = assetCache.versionedPath("css/stylesheet.css");
+
+        assertThat(versionedPath).matches("css/stylesheet-[0-9a-f]{32}\\.css");
+        assertThat(assetCache.get(versionedPath)).isSameAs(assetCache.get("css/stylesheet.css"));
+    }
+
+    @Test
+    void missing_assets_are_not_cached() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(assetCache.get("css/missing-" + i + ".css")).isNull();
+            assertThat(assetCache.isLoaded("css/missing-" + i + ".css")).isFalse();
+        }
+        assertThat(assetCache.versionedPath("css/missing.css")).isNull();
+    }
+
+    @Test
+    void paths_outside_of_assets_are_rejected() {
+        assertThat(assetCache.get("../index.html")).isNull();
+        assertThat(assetCache.get("/css/stylesheet.css")).isNull();
+        assertThat(assetCache.get("")).isNull();
+        assertThat(assetCache.isLoaded("../index.html")).isFalse();
+    }
+
+}
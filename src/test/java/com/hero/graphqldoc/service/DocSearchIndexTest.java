@@ -0,0 +1,113 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.GraphQLClassFields;
+import com.hero.graphqldoc.models.GraphQLDocModel;
+import com.hero.graphqldoc.models.GraphQLField;
+import com.hero.graphqldoc.models.GraphQLMethodObject;
+import com.hero.graphqldoc.models.GraphQLObject;
+import com.hero.graphqldoc.models.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocSearchIndexTest {
+
+    private final DocSearchIndex index = new DocSearchIndex(model());
+
+    @Test
+    void name_prefix_matches() {
+        List<SearchResult> results = index.search("getU", 10);
+
+        assertThat(results).extracting(SearchResult::getName).containsExactly("getUser");
+        assertThat(results.get(0).getAnchor()).isEqualTo("#QUERY_getUser");
+    }
+
+    @Test
+    void camel_case_tokens_match() {
+        assertThat(index.search("address", 10)).first().extracting(SearchResult::getName).isEqualTo("UserAddress");
+        assertThat(index.search("name", 10)).extracting(SearchResult::getName).containsExactly("streetName");
+    }
+
+    @Test
+    void operations_rank_before_types_and_fields() {
+        assertThat(index.search("user", 10)).extracting(SearchResult::getName)
+                .containsExactly("getUser", "createUser", "UserAddress", "zipCode", "streetName");
+    }
+
+    @Test
+    void parent_type_matches_fields() {
+        SearchResult result = index.search("zip", 10).get(0);
+
+        assertThat(result.getKind()).isEqualTo("field");
+        assertThat(result.getParent()).isEqualTo("UserAddress");
+        assertThat(result.getAnchor()).isEqualTo("#UserAddress_c");
+    }
+
+    @Test
+    void typos_match_long_words() {
+        assertThat(index.search("adress", 10)).first().extracting(SearchResult::getName).isEqualTo("UserAddress");
+        assertThat(index.search("usre", 10)).extracting(SearchResult::getName).startsWith("getUser", "createUser");
+        assertThat(index.search("adres", 10)).first().extracting(SearchResult::getName).isEqualTo("UserAddress");
+    }
+
+    @Test
+    void typos_do_not_match_short_words() {
+        assertThat(index.search("gat", 10)).isEmpty();
+    }
+
+    @Test
+    void all_words_must_match() {
+        assertThat(index.search("create user", 10)).extracting(SearchResult::getName).containsExactly("createUser");
+        assertThat(index.search("create address", 10)).isEmpty();
+    }
+
+    @Test
+    void descriptions_match() {
+        assertThat(index.search("identifier", 10)).extracting(SearchResult::getName).containsExactly("getUser");
+    }
+
+    @Test
+    void results_are_limited() {
+        assertThat(index.search("user", 2)).extracting(SearchResult::getName).containsExactly("getUser", "createUser");
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    private static GraphQLDocModel model() {
+        GraphQLObject group = new GraphQLObject();
+        group.setKey("users");
+        group.setObjects(List.of(operation("QUERY", "getUser", "Returns the user with the identifier"),
+                operation("MUTATION", "createUser", "Creates a user")));
+        GraphQLClassFields type = new GraphQLClassFields();
+        type.setName("UserAddress");
+        type.setDescription("Postal address");
+        type.setFields(List.of(field("streetName"), field("zipCode")));
+        GraphQLDocModel model = new GraphQLDocModel();
+        model.getDetails().put("users", group);
+        model.getObjectTypes().put("com.example.UserAddress", type);
+        model.getGraphQLToJavaMap().put("com.example.UserAddress", "UserAddress");
+        return model;
+    }
+
+    private static GraphQLMethodObject operation(String operationType, String name, String description) {
+        GraphQLMethodObject operation = new GraphQLMethodObject();
+        operation.setOperationType(operationType);
+        operation.setName(name);
+        operation.setDescription(description);
+        return operation;
+    }
+
+    private static GraphQLField field(String name) {
+        GraphQLField field = new GraphQLField();
+        field.setName(name);
+        return field;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * @author : Oguz Kahraman
+ * @since : 18.10.2026
+ *
+ * Copyright - graphqldoc
+ **/
+package com.hero.graphqldoc.service;
+
+import com.hero.graphqldoc.models.OperationStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class LatencyHistogramTest {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void statistics_are_null_without_calls() {
+        LatencyHistogram histogram = new LatencyHistogram(1, WINDOW);
+
+        assertThat(histogram.statistics(System.nanoTime())).isNull();
+    }
+
+    @Test
+    void percentiles_are_bucket_middles_in_milliseconds() {
+        LatencyHistogram histogram = new LatencyHistogram(1, WINDOW);
+        long now = System.nanoTime();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(1000), false, now);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(10000), true, now);
+        }
+
+        OperationStatistics statistics = histogram.statistics(now);
+
+        assertThat(statistics.getCalls()).isEqualTo(100);
+        assertThat(statistics.getErrorRate()).isEqualTo(0.1, offset(1e-9));
+        // 1000 us is in bucket [960, 1024), 10000 us is in bucket [9216, 10240)
+        assertThat(statistics.getP50()).isEqualTo(0.992, offset(1e-9));
+        assertThat(statistics.getP95()).isEqualTo(9.728, offset(1e-9));
+        assertThat(statistics.getP99()).isEqualTo(9.728, offset(1e-9));
+    }
+
+    @Test
+    void durations_below_eight_microseconds_have_a_bucket_each() {
+        LatencyHistogram histogram = new LatencyHistogram(1, WINDOW);
+        long now = System.nanoTime();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(5), false, now);
+
+        assertThat(histogram.statistics(now).getP50()).isEqualTo(0.0055, offset(1e-9));
+    }
+
+    @Test
+    void percentiles_are_within_bucket_precision() {
+        for (long micros = 8; micros < TimeUnit.SECONDS.toMicros(100); micros = micros * 11 / 10 + 1) {
+            LatencyHistogram histogram = new LatencyHistogram(1, WINDOW);
+            long now = System.nanoTime();
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros), false, now);
+
+            assertThat(histogram.statistics(now).getP50()).isCloseTo(micros / 1000.0, withinPercentage(6.25 + 1e-6));
+        }
+    }
+
+    @Test
+    void previous_window_is_kept_until_two_windows_elapsed() {
+        LatencyHistogram histogram = new LatencyHistogram(1, WINDOW);
+        long start = System.nanoTime();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1), false, start);
+
+        assertThat(histogram.statistics(start + WINDOW * 3 / 2).getCalls()).isEqualTo(1);
+
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1), false, start + WINDOW * 3 / 2);
+        OperationStatistics statistics = histogram.statistics(start + WINDOW * 26 / 10);
+
+        assertThat(statistics.getCalls()).isEqualTo(1);
+        assertThat(statistics.getCallRate()).isEqualTo(1 / 11.0, offset(1e-9));
+    }
+
+    @Test
+    void calls_older_than_two_windows_are_dropped() {
+        LatencyHistogram histogram = new LatencyHistogram(1, WINDOW);
+        long start = System.nanoTime();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1), true, start);
+
+        assertThat(histogram.statistics(start + WINDOW * 3)).isNull();
+    }
+
+    @Test
+    void calls_of_all_threads_are_counted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(4, WINDOW);
+        long now = System.nanoTime();
+        CountDownLatch done = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    histogram.record(TimeUnit.MILLISECONDS.toNanos(1), j % 4 == 0, now);
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        OperationStatistics statistics = histogram.statistics(now);
+
+        assertThat(statistics.getCalls()).isEqualTo(8000);
+        assertThat(statistics.getErrorRate()).isEqualTo(0.25, offset(1e-9));
+    }
+
+}